@@ -1,6 +1,9 @@
 package com.example.demo.admin;
 
+import com.example.demo.auth.CredentialVerifier;
+import com.example.demo.auth.PasswordHasher;
 import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.CursorPage;
 import com.example.demo.common.enums.Role;
 import com.example.demo.common.enums.UserStatus;
 import com.example.demo.member.dto.MemberResponse;
@@ -10,12 +13,16 @@ import com.example.demo.admin.dto.MemberSummaryStatsResponse;
 import com.example.demo.admin.dto.TrainerStatsResponse;
 import com.example.demo.admin.dto.AllStatsResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid; // ✨ 추가
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +33,9 @@ import java.util.Map;
 public class AdminController {
 
     private final AdminService adminService;
+    private final AdminExportService exportService;
+    private final PasswordHasher passwordHasher;
+    private final CredentialVerifier credentialVerifier;
 
     // ✅ 전체 회원 조회
     @GetMapping("/members")
@@ -86,6 +96,38 @@ public class AdminController {
         return adminService.getMemberLogStats();
     }
 
+    // ✅ 회원별 로그 통계 (커서 페이지, 정렬: TOTAL_LOGS / LAST_ACTIVITY)
+    @GetMapping("/member-log-stats/page")
+    public CursorPage<MemberStatsResponse> getMemberLogStatsPage(
+            @RequestParam(defaultValue = "TOTAL_LOGS") MemberStatsSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return adminService.getMemberLogStatsPage(sort, cursor, size);
+    }
+
+    // ✅ 회원 목록 내보내기 (CSV / XLSX 스트리밍)
+    @GetMapping("/export/members")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        return attachment("members", format, out -> exportService.exportMembers(format, out));
+    }
+
+    // ✅ 회원별 로그 통계 내보내기 (CSV / XLSX 스트리밍)
+    @GetMapping("/export/member-log-stats")
+    public ResponseEntity<StreamingResponseBody> exportMemberLogStats(
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        return attachment("member-log-stats", format, out -> exportService.exportMemberLogStats(format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now() + "." + format.extension();
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     // ✅ 트레이너 목록 조회
     @GetMapping("/trainers")
     public List<MemberResponse> getAllTrainers() {
@@ -111,4 +153,16 @@ public class AdminController {
         adminService.deleteTrainer(trainerId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // ✅ 비밀번호 해시 작업자 풀 지표
+    @GetMapping("/metrics/password-hashing")
+    public Map<String, Object> getPasswordHashingMetrics() {
+        return passwordHasher.metrics();
+    }
+
+    // ✅ 로그인 비밀번호 검증 풀 지표 (대기 시간 / 해시 시간 / 거절 수)
+    @GetMapping("/metrics/login")
+    public Map<String, Object> getLoginMetrics() {
+        return credentialVerifier.metrics();
+    }
+}
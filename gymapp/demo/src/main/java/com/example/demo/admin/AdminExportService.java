@@ -0,0 +1,167 @@
+package com.example.demo.admin;
+
+import com.example.demo.admin.dto.MemberStatsResponse;
+import com.example.demo.member.dto.MemberResponse;
+import com.opencsv.CSVWriter;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 관리자 CSV / XLSX 내보내기
+ * - 회원 / 로그 통계 모두 id 순 청크(키셋)로 읽어 바로 출력 스트림에 기록
+ * - 청크마다 짧은 읽기 트랜잭션 → 다운로드가 느려도 트랜잭션 / 커넥션을 잡고 있지 않음
+ *   (내보내기 경로는 OSIV 에서도 제외, WebConfig)
+ * - XLSX 는 SXSSF 윈도우(메모리에는 최근 행만 유지)로 작성
+ * - 행 수와 관계없이 메모리 사용량이 일정
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminExportService {
+
+    private static final int MEMBER_CHUNK_SIZE = 500;
+    private static final int STATS_CHUNK_SIZE = 500;
+    private static final int XLSX_ROW_WINDOW = 100;
+
+    private static final String[] MEMBER_HEADER = {
+            "ID", "이름", "이메일", "전화번호", "등급", "상태", "성별", "나이", "계정상태",
+            "회원권", "등록일", "시작일", "생성일", "수정일", "담당 트레이너 ID"
+    };
+    private static final String[] MEMBER_STATS_HEADER = {
+            "회원 ID", "이름", "운동 기록 수", "식단 기록 수", "총 기록 수", "마지막 기록일"
+    };
+
+    private final AdminService adminService;
+
+    // ✅ 회원 목록 내보내기
+    public void exportMembers(ExportFormat format, OutputStream out) throws IOException {
+        try (RowWriter writer = open(format, "members", out)) {
+            writer.write(MEMBER_HEADER);
+            long lastId = 0L;
+            while (true) {
+                List<MemberResponse> chunk = adminService.getMembersAfter(lastId, MEMBER_CHUNK_SIZE);
+                for (MemberResponse m : chunk) {
+                    writer.write(toRow(m));
+                }
+                if (chunk.size() < MEMBER_CHUNK_SIZE) break;
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+        }
+    }
+
+    // ✅ 회원별 로그 통계 내보내기
+    public void exportMemberLogStats(ExportFormat format, OutputStream out) throws IOException {
+        try (RowWriter writer = open(format, "member-log-stats", out)) {
+            writer.write(MEMBER_STATS_HEADER);
+            long lastId = 0L;
+            while (true) {
+                List<MemberStatsResponse> chunk = adminService.getMemberLogStatsAfter(lastId, STATS_CHUNK_SIZE);
+                for (MemberStatsResponse s : chunk) {
+                    writer.write(toRow(s));
+                }
+                if (chunk.size() < STATS_CHUNK_SIZE) break;
+                lastId = chunk.get(chunk.size() - 1).memberId();
+            }
+        }
+    }
+
+    private String[] toRow(MemberResponse m) {
+        return new String[] {
+                str(m.id()), m.name(), m.email(), m.phone(), str(m.role()), str(m.status()),
+                str(m.gender()), str(m.age()), str(m.accountStatus()), m.membershipType(),
+                str(m.registrationDate()), str(m.startDate()), str(m.createdAt()), str(m.updatedAt()),
+                str(m.trainerId())
+        };
+    }
+
+    private String[] toRow(MemberStatsResponse s) {
+        return new String[] {
+                str(s.memberId()), s.name(), str(s.workoutCount()), str(s.dietCount()),
+                str(s.totalLogs()), str(s.lastLogAt())
+        };
+    }
+
+    private static String str(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private RowWriter open(ExportFormat format, String sheetName, OutputStream out) {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(out);
+            case XLSX -> new XlsxRowWriter(sheetName, out);
+        };
+    }
+
+    // ========================
+    // 📝 행 단위 출력기
+    // ========================
+
+    private interface RowWriter extends Closeable {
+        void write(String[] cells) throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final CSVWriter csv;
+
+        CsvRowWriter(OutputStream out) {
+            OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            try {
+                writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.csv = new CSVWriter(writer);
+        }
+
+        @Override
+        public void write(String[] cells) {
+            csv.writeNext(cells, false);
+        }
+
+        @Override
+        public void close() throws IOException {
+            csv.flush();
+        }
+    }
+
+    private static final class XlsxRowWriter implements RowWriter {
+        private final SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        private final SXSSFSheet sheet;
+        private final OutputStream out;
+        private int rowNum = 0;
+
+        XlsxRowWriter(String sheetName, OutputStream out) {
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet(sheetName);
+            this.out = out;
+        }
+
+        @Override
+        public void write(String[] cells) {
+            Row row = sheet.createRow(rowNum++);
+            for (int i = 0; i < cells.length; i++) {
+                row.createCell(i).setCellValue(cells[i]);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                workbook.write(out);
+            } finally {
+                workbook.dispose(); // 임시 파일 삭제
+                workbook.close();
+            }
+        }
+    }
+}
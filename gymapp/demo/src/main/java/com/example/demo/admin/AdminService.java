@@ -1,34 +1,37 @@
 package com.example.demo.admin;
 
+import com.example.demo.common.CursorPage;
+import com.example.demo.common.KeysetCursor;
 import com.example.demo.common.enums.UserStatus;
 import com.example.demo.common.enums.Role;
 import com.example.demo.member.Member;
+import com.example.demo.member.MemberOwnershipIndex;
 import com.example.demo.member.MemberRepository;
 import com.example.demo.member.dto.MemberCreateRequest;
 import com.example.demo.member.dto.MemberResponse;
+import com.example.demo.member.dto.MemberRow;
 import com.example.demo.admin.dto.MemberStatsResponse;
 import com.example.demo.admin.dto.MemberSummaryStatsResponse;
 import com.example.demo.admin.dto.TrainerStatsResponse;
 import com.example.demo.admin.dto.AllStatsResponse;
-import com.example.demo.admin.dto.MonthlyJoinedResponse;
 import com.example.demo.workout.WorkoutLogRepository;
 import com.example.demo.diet.DietLogRepository;
 import com.example.demo.ptsession.PtSessionRepository;
+import com.example.demo.membership.MembershipRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.example.demo.auth.PasswordHasher;
 import com.example.demo.auth.UserPrincipal;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.ArrayList;
 
 @Service
 @RequiredArgsConstructor
@@ -39,7 +42,13 @@ public class AdminService {
     private final WorkoutLogRepository workoutLogRepo;
     private final DietLogRepository dietLogRepo;
     private final PtSessionRepository ptSessionRepo;
-    private final PasswordEncoder passwordEncoder;
+    private final MembershipRepository membershipRepo;
+    private final MemberOwnershipIndex ownershipIndex;
+    private final PasswordHasher passwordHasher;
+    private final DashboardSnapshotService dashboardSnapshot;
+    private final MemberLogStatsSnapshot memberLogStatsSnapshot;
+
+    private static final int MAX_STATS_PAGE_SIZE = 100;
 
     // ✅ 회원 등급 변경 (PT 등급업)
     public void updateMemberRole(Long memberId, Role newRole, UserPrincipal currentUser) {
@@ -58,22 +67,31 @@ public class AdminService {
         }
         
         member.setRole(newRole);
+        dashboardSnapshot.invalidate();
+        ownershipIndex.evict(memberId);
     }
 
     // ✅ 모든 회원 조회
     @Transactional(readOnly = true)
     public List<MemberResponse> getAllMembers() {
-        return memberRepo.findAll().stream()
-                .map(this::toMemberResponse)
+        return memberRepo.findAllMemberRows().stream()
+                .map(MemberRow::toResponse)
+                .toList();
+    }
+
+    // ✅ id 순 회원 청크 조회 (내보내기용)
+    @Transactional(readOnly = true)
+    public List<MemberResponse> getMembersAfter(Long afterId, int limit) {
+        return memberRepo.findMemberRowsAfter(afterId, PageRequest.of(0, limit)).stream()
+                .map(MemberRow::toResponse)
                 .toList();
     }
 
     // ✅ 모든 트레이너 조회
     @Transactional(readOnly = true)
     public List<MemberResponse> getAllTrainers() {
-        return memberRepo.findAll().stream()
-                .filter(m -> m.getRole().isTrainer())
-                .map(this::toMemberResponse)
+        return memberRepo.findMemberRowsByRole(Role.TRAINER).stream()
+                .map(MemberRow::toResponse)
                 .toList();
     }
 
@@ -82,6 +100,7 @@ public class AdminService {
         Member member = memberRepo.findById(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("회원이 없습니다: " + memberId));
         member.setStatus(UserStatus.valueOf(status.toUpperCase()));
+        dashboardSnapshot.invalidate();
     }
 
     // ✅ 회원 삭제
@@ -94,7 +113,10 @@ public class AdminService {
             throw new IllegalArgumentException("관리자 계정은 삭제할 수 없습니다.");
         }
         
+        membershipRepo.findByMemberId(memberId).ifPresent(membershipRepo::delete);
         memberRepo.delete(member);
+        dashboardSnapshot.invalidate();
+        ownershipIndex.evict(memberId);
     }
 
     // ✅ 전체 회원 요약 통계
@@ -107,141 +129,53 @@ public class AdminService {
         return new MemberSummaryStatsResponse(total, active, inactive, recent);
     }
 
-    // ✅ 전체 통계
+    // ✅ 전체 통계 (집계 스냅샷에서 조회)
     @Transactional(readOnly = true)
     public AllStatsResponse getAllStats() {
-        // 기본 통계
-        long totalMembers = memberRepo.count();
-        long activeMembers = memberRepo.countByStatus(UserStatus.ACTIVE);
-        long inactiveMembers = memberRepo.countByStatus(UserStatus.INACTIVE);
-        long recentJoined = memberRepo.countByCreatedAtAfter(LocalDateTime.now().minusWeeks(1));
-
-        // 역할별 분포
-        Map<String, Long> roleDistribution = new HashMap<>();
-        roleDistribution.put("OT", memberRepo.findAll().stream()
-                .filter(m -> m.getRole() == Role.OT).count());
-        roleDistribution.put("PT", memberRepo.findAll().stream()
-                .filter(m -> m.getRole() == Role.PT).count());
-        roleDistribution.put("TRAINER", memberRepo.findAll().stream()
-                .filter(m -> m.getRole() == Role.TRAINER).count());
-        roleDistribution.put("ADMIN", memberRepo.findAll().stream()
-                .filter(m -> m.getRole() == Role.ADMIN).count());
-
-        // 트레이너별 통계
-        List<TrainerStatsResponse> trainerStats = getTrainerStats();
-
-        // 월별 가입 추이 (최근 6개월)
-        List<MonthlyJoinedResponse> monthlyJoined = new ArrayList<>();
-        LocalDate now = LocalDate.now();
-        for (int i = 5; i >= 0; i--) {
-            LocalDate monthStart = now.minusMonths(i).withDayOfMonth(1);
-            LocalDate monthEnd = monthStart.plusMonths(1).minusDays(1);
-            LocalDateTime startDateTime = monthStart.atStartOfDay();
-            LocalDateTime endDateTime = monthEnd.atTime(23, 59, 59);
-            
-            long count = memberRepo.findAll().stream()
-                    .filter(m -> m.getCreatedAt() != null 
-                            && m.getCreatedAt().isAfter(startDateTime) 
-                            && m.getCreatedAt().isBefore(endDateTime))
-                    .count();
-            
-            monthlyJoined.add(new MonthlyJoinedResponse(monthStart.getMonthValue(), count));
-        }
+        return dashboardSnapshot.getAllStats();
+    }
 
-        // 활동 통계
-        long totalWorkoutLogs = workoutLogRepo.count();
-        long totalDietLogs = dietLogRepo.count();
-        long totalPtSessions = ptSessionRepo.count();
+    // ✅ 회원별 로그 통계 (전체, 집계 쿼리 1회)
+    @Transactional(readOnly = true)
+    public List<MemberStatsResponse> getMemberLogStats() {
+        return memberRepo.findMemberLogStats().stream()
+                .map(MemberLogStatsSnapshot::toMemberStats)
+                .toList();
+    }
 
-        // 평균 계산
-        double avgWorkoutPerMember = totalMembers > 0 ? (double) totalWorkoutLogs / totalMembers : 0;
-        double avgDietPerMember = totalMembers > 0 ? (double) totalDietLogs / totalMembers : 0;
-        
-        long ptMemberCount = memberRepo.findAll().stream()
-                .filter(m -> m.getRole() == Role.PT).count();
-        double avgPtPerMember = ptMemberCount > 0 ? (double) totalPtSessions / ptMemberCount : 0;
-
-        // PT 전환율
-        double ptConversionRate = totalMembers > 0 ? (ptMemberCount * 100.0) / totalMembers : 0;
-
-        // 평균 트레이너당 담당 회원
-        long totalTrainers = memberRepo.findAll().stream()
-                .filter(m -> m.getRole().isTrainer()).count();
-        long membersWithTrainer = memberRepo.findAll().stream()
-                .filter(m -> m.getTrainer() != null).count();
-        double avgTraineePerTrainer = totalTrainers > 0 ? (double) membersWithTrainer / totalTrainers : 0;
-
-        // 이번 달 신규 회원
-        LocalDateTime monthStart = now.withDayOfMonth(1).atStartOfDay();
-        long thisMonthJoined = memberRepo.countByCreatedAtAfter(monthStart);
-
-        return AllStatsResponse.builder()
-                .totalMembers(totalMembers)
-                .activeMembers(activeMembers)
-                .inactiveMembers(inactiveMembers)
-                .recentJoined(recentJoined)
-                .roleDistribution(roleDistribution)
-                .trainerStats(trainerStats)
-                .monthlyJoined(monthlyJoined)
-                .totalWorkoutLogs(totalWorkoutLogs)
-                .totalDietLogs(totalDietLogs)
-                .totalPtSessions(totalPtSessions)
-                .avgWorkoutPerMember(avgWorkoutPerMember)
-                .avgDietPerMember(avgDietPerMember)
-                .avgPtPerMember(avgPtPerMember)
-                .ptConversionRate(ptConversionRate)
-                .avgTraineePerTrainer(avgTraineePerTrainer)
-                .thisMonthJoined(thisMonthJoined)
-                .build();
+    // ✅ 회원별 로그 통계 (키셋 페이지, 정렬 스냅샷에서 이진 탐색)
+    @Transactional(readOnly = true)
+    public CursorPage<MemberStatsResponse> getMemberLogStatsPage(MemberStatsSort sort, String cursor, int size) {
+        int limit = KeysetCursor.clampSize(size, MAX_STATS_PAGE_SIZE);
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+        Long afterId = after != null ? after.id() : null;
+
+        List<MemberStatsResponse> stats = switch (sort) {
+            case TOTAL_LOGS -> memberLogStatsSnapshot.pageByTotalLogs(
+                    after != null ? Long.valueOf(after.key()) : null, afterId, limit + 1);
+            case LAST_ACTIVITY -> memberLogStatsSnapshot.pageByLastActivity(
+                    after != null ? LocalDateTime.parse(after.key()) : null, afterId, limit + 1);
+        };
+
+        return CursorPage.of(stats, limit, s -> switch (sort) {
+            case TOTAL_LOGS -> new KeysetCursor(String.valueOf(s.totalLogs()), s.memberId()).encode();
+            case LAST_ACTIVITY -> new KeysetCursor(
+                    MemberLogStatsSnapshot.lastKey(s).toString(), s.memberId()).encode();
+        });
     }
 
-    // ✅ 회원별 로그 통계
+    // ✅ 회원 id 순 로그 통계 청크 조회 (내보내기용, 청크마다 짧은 읽기 트랜잭션)
     @Transactional(readOnly = true)
-    public List<MemberStatsResponse> getMemberLogStats() {
-        return memberRepo.findAll().stream()
-                .map(m -> {
-                    long workoutCount = workoutLogRepo.countByMemberId(m.getId());
-                    long dietCount = dietLogRepo.countByMemberId(m.getId());
-                    long totalLogs = workoutCount + dietCount;
-
-                    LocalDateTime lastWorkout = workoutLogRepo.findLastCreatedAtByMemberId(m.getId());
-                    LocalDateTime lastDiet = dietLogRepo.findLastCreatedAtByMemberId(m.getId());
-                    LocalDateTime lastLogAt = null;
-
-                    if (lastWorkout != null && lastDiet != null) {
-                        lastLogAt = lastWorkout.isAfter(lastDiet) ? lastWorkout : lastDiet;
-                    } else if (lastWorkout != null) {
-                        lastLogAt = lastWorkout;
-                    } else if (lastDiet != null) {
-                        lastLogAt = lastDiet;
-                    }
-
-                    return new MemberStatsResponse(
-                            m.getId(),
-                            m.getName(),
-                            workoutCount,
-                            dietCount,
-                            totalLogs,
-                            lastLogAt
-                    );
-                })
+    public List<MemberStatsResponse> getMemberLogStatsAfter(Long afterId, int limit) {
+        return memberRepo.findMemberLogStatsAfter(afterId, limit).stream()
+                .map(MemberLogStatsSnapshot::toMemberStats)
                 .toList();
     }
 
     // ✅ 트레이너별 담당 회원 통계
     @Transactional(readOnly = true)
     public List<TrainerStatsResponse> getTrainerStats() {
-        return memberRepo.findAll().stream()
-                .filter(m -> m.getRole().isTrainer())
-                .map(trainer -> {
-                    long traineeCount = memberRepo.findByTrainerId(trainer.getId()).size();
-                    return new TrainerStatsResponse(
-                            trainer.getId(),
-                            trainer.getName(),
-                            traineeCount
-                    );
-                })
-                .toList();
+        return dashboardSnapshot.getTrainerStats();
     }
 
     // ✅ 트레이너 생성
@@ -289,7 +223,7 @@ public MemberResponse createTrainer(Map<String, Object> request) {
             .name(name)
             .email(email)
             .phone(phone)
-            .password(passwordEncoder.encode(password))
+            .password(passwordHasher.encode(password))
             .gender(gender)
             .dateOfBirth(dateOfBirth)
             .role(Role.TRAINER)
@@ -299,6 +233,7 @@ public MemberResponse createTrainer(Map<String, Object> request) {
             .build();
 
     Member savedTrainer = memberRepo.save(trainer);
+    dashboardSnapshot.invalidate();
     return toMemberResponse(savedTrainer);
 }
 
@@ -327,6 +262,8 @@ public void deleteTrainer(Long trainerId) {
     // 3. 트레이너 완전 삭제 (Hard Delete)
     memberRepo.hardDelete(trainerId);
     memberRepo.flush();
+    dashboardSnapshot.invalidate();
+    ownershipIndex.evictTrainees(trainerId);
 }
     // ✨ 헬퍼 메서드
     private MemberResponse toMemberResponse(Member m) {
@@ -397,7 +334,7 @@ public MemberResponse createMember(MemberCreateRequest req) {
             .name(req.name())
             .phone(req.phone())
             .email(email)
-            .password(passwordEncoder.encode(password))
+            .password(passwordHasher.encode(password))
             .gender(req.gender())
             .dateOfBirth(req.dateOfBirth())
             .membershipType(req.membershipType())
@@ -410,6 +347,7 @@ public MemberResponse createMember(MemberCreateRequest req) {
             .build();
 
     Member saved = memberRepo.save(member);
+    dashboardSnapshot.invalidate();
     return toMemberResponse(saved);
 }
 
@@ -0,0 +1,177 @@
+package com.example.demo.admin;
+
+import com.example.demo.admin.dto.AllStatsResponse;
+import com.example.demo.admin.dto.MonthlyJoinedResponse;
+import com.example.demo.admin.dto.TrainerStatsResponse;
+import com.example.demo.common.AfterCommit;
+import com.example.demo.common.enums.Role;
+import com.example.demo.common.enums.UserStatus;
+import com.example.demo.diet.DietLogRepository;
+import com.example.demo.member.MemberRepository;
+import com.example.demo.ptsession.PtSessionRepository;
+import com.example.demo.workout.WorkoutLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 대시보드 통계 스냅샷
+ * - 몇 개의 GROUP BY 집계 쿼리로 AllStatsResponse 전체를 계산
+ * - 주기적으로 갱신하고, 회원 데이터가 바뀌면 invalidate() 로 다음 조회 때 다시 계산
+ * - 조회는 캐시된 스냅샷을 반환하므로 회원 수와 무관하게 일정한 시간에 응답
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService {
+
+    private final MemberRepository memberRepo;
+    private final WorkoutLogRepository workoutLogRepo;
+    private final DietLogRepository dietLogRepo;
+    private final PtSessionRepository ptSessionRepo;
+
+    private record Snapshot(AllStatsResponse stats, Instant computedAt) {}
+
+    private volatile Snapshot current;
+    private volatile boolean stale = true;
+
+    // ✅ 전체 통계 (스냅샷 + 경과 시간)
+    public AllStatsResponse getAllStats() {
+        Snapshot snapshot = currentSnapshot();
+        long ageMs = Duration.between(snapshot.computedAt(), Instant.now()).toMillis();
+        return snapshot.stats().toBuilder()
+                .snapshotAgeMs(ageMs)
+                .build();
+    }
+
+    // ✅ 트레이너별 담당 회원 통계
+    public List<TrainerStatsResponse> getTrainerStats() {
+        return currentSnapshot().stats().getTrainerStats();
+    }
+
+    // ✅ 회원 데이터 변경 시 호출 (커밋 이후 다음 조회에서 재계산)
+    public void invalidate() {
+        AfterCommit.run(() -> stale = true);
+    }
+
+    // ✅ 주기적 갱신 (기본 1분)
+    @Scheduled(fixedDelayString = "${app.admin.dashboard.refresh-ms:60000}")
+    public void scheduledRefresh() {
+        refresh(true);
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot snapshot = current;
+        if (snapshot == null || stale) {
+            snapshot = refresh(false);
+        }
+        return snapshot;
+    }
+
+    private synchronized Snapshot refresh(boolean force) {
+        // 대기 중 다른 스레드가 이미 갱신했으면 그대로 사용
+        if (!force && current != null && !stale) {
+            return current;
+        }
+        // 계산 도중 들어온 invalidate 는 다시 stale 로 남도록 먼저 내려둔다
+        stale = false;
+        Snapshot snapshot = new Snapshot(compute(), Instant.now());
+        current = snapshot;
+        return snapshot;
+    }
+
+    private AllStatsResponse compute() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        // 상태별 / 역할별 분포 (GROUP BY 1회씩)
+        Map<UserStatus, Long> byStatus = new EnumMap<>(UserStatus.class);
+        for (Object[] row : memberRepo.countGroupByStatus()) {
+            byStatus.put((UserStatus) row[0], ((Number) row[1]).longValue());
+        }
+        Map<Role, Long> byRole = new EnumMap<>(Role.class);
+        for (Object[] row : memberRepo.countGroupByRole()) {
+            byRole.put((Role) row[0], ((Number) row[1]).longValue());
+        }
+
+        long totalMembers = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        long activeMembers = byStatus.getOrDefault(UserStatus.ACTIVE, 0L);
+        long inactiveMembers = byStatus.getOrDefault(UserStatus.INACTIVE, 0L);
+        long recentJoined = memberRepo.countByCreatedAtAfter(now.minusWeeks(1));
+
+        Map<String, Long> roleDistribution = new HashMap<>();
+        for (Role role : Role.values()) {
+            roleDistribution.put(role.name(), byRole.getOrDefault(role, 0L));
+        }
+
+        // 트레이너별 담당 회원 수
+        List<TrainerStatsResponse> trainerStats = memberRepo.countTraineesGroupByTrainer().stream()
+                .map(row -> new TrainerStatsResponse(
+                        (Long) row[0],
+                        (String) row[1],
+                        ((Number) row[2]).longValue()
+                ))
+                .toList();
+
+        // 월별 가입 추이 (최근 6개월)
+        YearMonth thisMonth = YearMonth.from(today);
+        YearMonth firstMonth = thisMonth.minusMonths(5);
+        Map<YearMonth, Long> joinedByMonth = new HashMap<>();
+        for (Object[] row : memberRepo.countJoinedByMonthSince(firstMonth.atDay(1).atStartOfDay())) {
+            YearMonth ym = YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            joinedByMonth.put(ym, ((Number) row[2]).longValue());
+        }
+        List<MonthlyJoinedResponse> monthlyJoined = new ArrayList<>();
+        for (YearMonth ym = firstMonth; !ym.isAfter(thisMonth); ym = ym.plusMonths(1)) {
+            monthlyJoined.add(new MonthlyJoinedResponse(ym.getMonthValue(), joinedByMonth.getOrDefault(ym, 0L)));
+        }
+
+        // 활동 통계
+        long totalWorkoutLogs = workoutLogRepo.count();
+        long totalDietLogs = dietLogRepo.count();
+        long totalPtSessions = ptSessionRepo.count();
+
+        double avgWorkoutPerMember = totalMembers > 0 ? (double) totalWorkoutLogs / totalMembers : 0;
+        double avgDietPerMember = totalMembers > 0 ? (double) totalDietLogs / totalMembers : 0;
+
+        long ptMemberCount = byRole.getOrDefault(Role.PT, 0L);
+        double avgPtPerMember = ptMemberCount > 0 ? (double) totalPtSessions / ptMemberCount : 0;
+        double ptConversionRate = totalMembers > 0 ? (ptMemberCount * 100.0) / totalMembers : 0;
+
+        long totalTrainers = byRole.getOrDefault(Role.TRAINER, 0L);
+        long membersWithTrainer = memberRepo.countByTrainerIsNotNull();
+        double avgTraineePerTrainer = totalTrainers > 0 ? (double) membersWithTrainer / totalTrainers : 0;
+
+        long thisMonthJoined = joinedByMonth.getOrDefault(thisMonth, 0L);
+
+        return AllStatsResponse.builder()
+                .totalMembers(totalMembers)
+                .activeMembers(activeMembers)
+                .inactiveMembers(inactiveMembers)
+                .recentJoined(recentJoined)
+                .roleDistribution(Map.copyOf(roleDistribution))
+                .trainerStats(trainerStats)
+                .monthlyJoined(List.copyOf(monthlyJoined))
+                .totalWorkoutLogs(totalWorkoutLogs)
+                .totalDietLogs(totalDietLogs)
+                .totalPtSessions(totalPtSessions)
+                .avgWorkoutPerMember(avgWorkoutPerMember)
+                .avgDietPerMember(avgDietPerMember)
+                .avgPtPerMember(avgPtPerMember)
+                .ptConversionRate(ptConversionRate)
+                .avgTraineePerTrainer(avgTraineePerTrainer)
+                .thisMonthJoined(thisMonthJoined)
+                .snapshotAt(now)
+                .build();
+    }
+}
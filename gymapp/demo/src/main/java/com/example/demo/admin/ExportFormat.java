@@ -0,0 +1,27 @@
+package com.example.demo.admin;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 관리자 내보내기 파일 형식
+ */
+public enum ExportFormat {
+    CSV("csv", MediaType.parseMediaType("text/csv; charset=UTF-8")),
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
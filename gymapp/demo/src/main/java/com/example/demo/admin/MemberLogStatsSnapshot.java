@@ -0,0 +1,124 @@
+package com.example.demo.admin;
+
+import com.example.demo.admin.dto.MemberStatsResponse;
+import com.example.demo.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 회원별 로그 통계 정렬 스냅샷 (총 로그 수 / 최근 활동 순 키셋 페이지용)
+ * - 정렬 키가 집계값이라 SQL 키셋으로는 페이지마다 전체 로그를 다시 GROUP BY 한 뒤에야 커서를 적용할 수 있음
+ * - 집계 쿼리 1회 결과를 두 정렬 순서로 들고 있다가 커서 위치를 이진 탐색 → 페이지 조회는 DB 를 거치지 않음
+ * - 한 스냅샷 안에서는 순서가 고정이라 페이지를 넘기는 도중 회원이 겹치거나 빠지지 않음
+ * - 만든 지 refresh-ms(기본 1분)가 지나면 다음 조회 때 다시 집계 (대시보드 스냅샷과 같은 방식)
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberLogStatsSnapshot {
+
+    // 활동 기록이 없는 회원의 정렬 키 (최근 활동 순에서 마지막)
+    static final LocalDateTime NO_ACTIVITY_KEY = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private static final Comparator<MemberStatsResponse> BY_TOTAL_LOGS =
+            Comparator.comparingLong(MemberStatsResponse::totalLogs)
+                    .thenComparing(MemberStatsResponse::memberId)
+                    .reversed();
+    private static final Comparator<MemberStatsResponse> BY_LAST_ACTIVITY =
+            Comparator.comparing(MemberLogStatsSnapshot::lastKey)
+                    .thenComparing(MemberStatsResponse::memberId)
+                    .reversed();
+
+    private final MemberRepository memberRepo;
+
+    @Value("${app.admin.member-log-stats.refresh-ms:60000}")
+    private long refreshMs;
+
+    private record Snapshot(List<MemberStatsResponse> byTotalLogs,
+                            List<MemberStatsResponse> byLastActivity,
+                            Instant computedAt) {}
+
+    private volatile Snapshot current;
+
+    static LocalDateTime lastKey(MemberStatsResponse s) {
+        return s.lastLogAt() != null ? s.lastLogAt() : NO_ACTIVITY_KEY;
+    }
+
+    // ✅ 총 로그 수 내림차순 (cursorId 가 null 이면 첫 페이지)
+    public List<MemberStatsResponse> pageByTotalLogs(Long cursorTotal, Long cursorId, int limit) {
+        Predicate<MemberStatsResponse> after = s -> s.totalLogs() < cursorTotal
+                || (s.totalLogs() == cursorTotal && s.memberId() < cursorId);
+        return page(currentSnapshot().byTotalLogs(), cursorId == null ? null : after, limit);
+    }
+
+    // ✅ 최근 활동 내림차순 (활동이 없는 회원은 마지막)
+    public List<MemberStatsResponse> pageByLastActivity(LocalDateTime cursorLast, Long cursorId, int limit) {
+        Predicate<MemberStatsResponse> after = s -> lastKey(s).isBefore(cursorLast)
+                || (lastKey(s).isEqual(cursorLast) && s.memberId() < cursorId);
+        return page(currentSnapshot().byLastActivity(), cursorId == null ? null : after, limit);
+    }
+
+    // 정렬된 목록에서 커서 다음 위치를 이진 탐색 (after 는 앞쪽 false → 뒤쪽 true 로 한 번만 바뀜)
+    private static List<MemberStatsResponse> page(List<MemberStatsResponse> sorted,
+                                                  Predicate<MemberStatsResponse> after, int limit) {
+        int lo = 0;
+        int hi = sorted.size();
+        if (after != null) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (after.test(sorted.get(mid))) hi = mid;
+                else lo = mid + 1;
+            }
+        }
+        return sorted.subList(lo, Math.min(lo + limit, sorted.size()));
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot snapshot = current;
+        if (snapshot == null || Duration.between(snapshot.computedAt(), Instant.now()).toMillis() >= refreshMs) {
+            snapshot = refresh();
+        }
+        return snapshot;
+    }
+
+    private synchronized Snapshot refresh() {
+        // 대기 중 다른 스레드가 이미 갱신했으면 그대로 사용
+        Snapshot snapshot = current;
+        if (snapshot != null && Duration.between(snapshot.computedAt(), Instant.now()).toMillis() < refreshMs) {
+            return snapshot;
+        }
+        List<MemberStatsResponse> rows = memberRepo.findMemberLogStats().stream()
+                .map(MemberLogStatsSnapshot::toMemberStats)
+                .toList();
+        snapshot = new Snapshot(
+                rows.stream().sorted(BY_TOTAL_LOGS).toList(),
+                rows.stream().sorted(BY_LAST_ACTIVITY).toList(),
+                Instant.now());
+        current = snapshot;
+        return snapshot;
+    }
+
+    // member_id, name, workout_count, diet_count, total_logs, last_log_at
+    static MemberStatsResponse toMemberStats(Object[] row) {
+        return new MemberStatsResponse(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                ((Number) row[2]).longValue(),
+                ((Number) row[3]).longValue(),
+                ((Number) row[4]).longValue(),
+                toLocalDateTime(row[5]));
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp ts) return ts.toLocalDateTime();
+        return (LocalDateTime) value;
+    }
+}
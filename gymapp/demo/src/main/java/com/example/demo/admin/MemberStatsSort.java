@@ -0,0 +1,9 @@
+package com.example.demo.admin;
+
+/**
+ * 회원별 로그 통계 정렬 기준
+ */
+public enum MemberStatsSort {
+    TOTAL_LOGS,     // 총 로그 수 많은 순
+    LAST_ACTIVITY   // 최근 활동 순
+}
@@ -5,11 +5,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AllStatsResponse {
@@ -29,4 +30,6 @@ public class AllStatsResponse {
     private Double ptConversionRate;
     private Double avgTraineePerTrainer;
     private Long thisMonthJoined;
+    private LocalDateTime snapshotAt;   // 통계 스냅샷 계산 시각
+    private Long snapshotAgeMs;         // 스냅샷 경과 시간 (ms)
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.demo.auth;
 
+import com.example.demo.admin.DashboardSnapshotService;
 import com.example.demo.auth.dto.AuthRequest;
 import com.example.demo.auth.dto.AuthResponse;
 import com.example.demo.auth.dto.RegisterRequest;
@@ -12,6 +13,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.authentication.AuthenticationManager; // ✨ 빠진 import 추가
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // ✨ 빠진 import 추가
@@ -27,7 +29,9 @@ public class AuthService {
 
     private final MemberRepository repo;
     private final PasswordEncoder encoder;
+    private final CredentialVerifier credentialVerifier;
     private final JwtTokenProvider jwt;
+    private final DashboardSnapshotService dashboardSnapshot;
 
     // ✨ 회원가입 (전체 교체)
     public void register(RegisterRequest req) {
@@ -112,14 +116,19 @@ public class AuthService {
                 .build();
 
         repo.save(m);
+        dashboardSnapshot.invalidate();
     }
 
-    // 로그인 (그대로 유지)
+    // 로그인
+    // - 비밀번호 검증 동안 트랜잭션을 열어 두지 않도록 트랜잭션 없이 실행
+    //   (OSIV 가 켜져 있으므로 조회에 쓴 커넥션은 요청이 끝날 때까지 요청의 EntityManager 가 유지)
+    // - BCrypt 검증은 CredentialVerifier 풀에서 (과부하 시 503)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(AuthRequest req) {
         Member m = repo.findByEmail(req.email())
                 .orElseThrow(() -> new EntityNotFoundException("이메일 없음"));
 
-        if (!encoder.matches(req.password(), m.getPassword())) {
+        if (!credentialVerifier.matches(req.password(), m.getPassword())) {
             throw new IllegalArgumentException("비밀번호 불일치");
         }
 
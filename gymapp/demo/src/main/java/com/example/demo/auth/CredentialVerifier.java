@@ -0,0 +1,126 @@
+package com.example.demo.auth;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 비밀번호 검증 전용 작업자 풀
+ * - BCrypt 검증은 코어 수만큼의 스레드에서만 실행 → 로그인이 몰려도 다른 API 처리 스레드를 잡아먹지 않음
+ * - 대기열(queue-capacity)이 가득 차거나 max-wait 안에 끝나지 않으면 즉시 LoginOverloadedException (503)
+ * - 대기 중인 로그인도 Tomcat 요청 스레드를 하나씩 잡고 있으므로, 기본 대기열 크기는
+ *   실행 중 + 대기 중 로그인이 Tomcat 스레드(server.tomcat.threads.max)의 1/4 을 넘지 않도록 정함
+ * - PasswordHasher(일괄 등록용)와 풀을 분리해 대량 등록이 로그인을 막지 않도록 함
+ */
+@Component
+public class CredentialVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+    private final int retryAfterSeconds;
+
+    // 지표
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+
+    public CredentialVerifier(PasswordEncoder passwordEncoder,
+                              @Value("${app.auth.login.queue-capacity:0}") int queueCapacity,
+                              @Value("${app.auth.login.max-wait-ms:3000}") long maxWaitMs,
+                              @Value("${app.auth.login.retry-after-seconds:2}") int retryAfterSeconds,
+                              @Value("${server.tomcat.threads.max:200}") int tomcatMaxThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitMs = maxWaitMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        int capacity = queueCapacity > 0 ? queueCapacity : Math.max(1, tomcatMaxThreads / 4 - threads);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                r -> {
+                    Thread t = new Thread(r, "credential-verifier-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    // ✅ 비밀번호 일치 여부 (과부하면 LoginOverloadedException)
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                queueWaitNanos.add(start - submittedAt);
+                boolean ok = passwordEncoder.matches(rawPassword, encodedPassword);
+                hashNanos.add(System.nanoTime() - start);
+                verified.increment();
+                return ok;
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw overloaded();
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            timedOut.increment();
+            throw overloaded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("비밀번호 검증 실패", cause);
+        }
+    }
+
+    // ✅ 로그인 검증 지표 (관리자 모니터링용)
+    public Map<String, Object> metrics() {
+        long count = verified.sum();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("poolSize", executor.getMaximumPoolSize());
+        m.put("activeThreads", executor.getActiveCount());
+        m.put("queued", executor.getQueue().size());
+        m.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        m.put("verified", count);
+        m.put("rejected", rejected.sum());
+        m.put("timedOut", timedOut.sum());
+        m.put("avgQueueWaitMs", count > 0 ? queueWaitNanos.sum() / 1_000_000.0 / count : 0);
+        m.put("avgHashMs", count > 0 ? hashNanos.sum() / 1_000_000.0 / count : 0);
+        return m;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private LoginOverloadedException overloaded() {
+        return new LoginOverloadedException("로그인 요청이 많아 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+    }
+}
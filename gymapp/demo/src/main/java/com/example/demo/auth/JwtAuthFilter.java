@@ -4,18 +4,37 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final JwtTokenProvider jwt;
+    private final List<String> skipPaths; // 인증이 필요 없는 경로 (permitAll)
+
+    public JwtAuthFilter(JwtTokenProvider jwt,
+                         @Value("${app.jwt.skip-paths:/v3/api-docs/**,/swagger-ui/**,/swagger-ui.html,/api/auth/**}") List<String> skipPaths) {
+        this.jwt = jwt;
+        this.skipPaths = skipPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        String path = req.getServletPath();
+        for (String pattern : skipPaths) {
+            if (PATH_MATCHER.match(pattern, path)) return true;
+        }
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
@@ -24,8 +43,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String header = req.getHeader(HttpHeaders.AUTHORIZATION);
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwt.validate(token)) {
-                var auth = jwt.getAuthentication(token);
+            var auth = jwt.authenticate(token);
+            if (auth != null) {
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
         }
@@ -1,5 +1,6 @@
 package com.example.demo.auth;
 
+import com.example.demo.common.BoundedLruCache;
 import com.example.demo.common.enums.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -11,6 +12,9 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -20,13 +24,21 @@ public class JwtTokenProvider {
 
     private final SecretKey key;
     private final long expirationMs;
+    private final JwtParser parser; // 스레드 안전 → 한 번만 생성
+
+    // 토큰 SHA-256 → 검증된 사용자 (토큰 만료 시각까지만 사용)
+    private record VerifiedToken(UserPrincipal principal, long expiresAtMs) {}
+    private final BoundedLruCache<String, VerifiedToken> verified;
 
     public JwtTokenProvider(
             @Value("${app.jwt.secret}") String secret,
-            @Value("${app.jwt.expiration-ms:86400000}") long expirationMs
+            @Value("${app.jwt.expiration-ms:86400000}") long expirationMs,
+            @Value("${app.jwt.cache-size:10000}") int cacheSize
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verified = new BoundedLruCache<>(cacheSize);
     }
 
     // ✅ Role Enum 직접 사용
@@ -41,30 +53,57 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Jws<Claims> jws = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+    // ✅ 검증 + 인증 객체 생성 (토큰당 파싱 1회, 이후에는 캐시 조회)
+    //    유효하지 않거나 만료된 토큰이면 null
+    public Authentication authenticate(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verified.get(digest);
+        if (cached != null) {
+            if (now < cached.expiresAtMs()) {
+                return toAuthentication(cached.principal(), token);
+            }
+            verified.remove(digest);
+            return null;
+        }
 
-        Long id = jws.getBody().get("id", Long.class);
-        String email = jws.getBody().getSubject();
-        String roleStr = jws.getBody().get("role", String.class);
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        UserPrincipal principal = toPrincipal(claims);
+        Date exp = claims.getExpiration();
+        verified.put(digest, new VerifiedToken(principal, exp != null ? exp.getTime() : now + expirationMs));
+        return toAuthentication(principal, token);
+    }
+
+    private UserPrincipal toPrincipal(Claims claims) {
+        Long id = claims.get("id", Long.class);
+        String email = claims.getSubject();
+        String roleStr = claims.get("role", String.class);
         Role role = Role.valueOf(roleStr); // ✅ Enum 변환
 
-        UserPrincipal principal = new UserPrincipal(
+        return new UserPrincipal(
                 id,
                 email,
                 role,
                 List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
         );
+    }
 
+    private Authentication toAuthentication(UserPrincipal principal, String token) {
         return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
     }
 
-    public boolean validate(String token) {
+    private static String digest(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
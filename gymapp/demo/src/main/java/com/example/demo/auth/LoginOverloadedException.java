@@ -0,0 +1,17 @@
+package com.example.demo.auth;
+
+import lombok.Getter;
+
+/**
+ * 로그인 검증 대기열이 가득 찼을 때 (503 + Retry-After 로 응답)
+ */
+@Getter
+public class LoginOverloadedException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public LoginOverloadedException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.auth;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시 전용 작업자 풀
+ * - BCrypt 는 CPU 바운드이므로 어느 스레드에서 돌든 코어 수만큼의 허가(Semaphore)를 받아야 실행
+ *   → 풀 스레드 / 대기열이 넘쳐 호출 스레드가 직접 돌리는 경우 / 단건 encode() 를 합쳐도 동시 해시는 코어 수 이하
+ * - 단건 encode() 는 스레드를 넘기지 않고 호출 스레드에서 허가를 기다렸다가 바로 해시
+ * - 일괄 등록은 encodeAll() 로 한 번에 넘겨 여러 코어에 분산 (대기열이 가득 차면 호출 스레드도 허가를 받아 해시 → 백프레셔)
+ */
+@Component
+public class PasswordHasher {
+
+    private static final int QUEUE_PER_THREAD = 4;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+
+    // 처리량 지표
+    private final LongAdder hashed = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private volatile double lastBatchRowsPerSec;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        int threads = Runtime.getRuntime().availableProcessors();
+        this.permits = new Semaphore(threads);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUE_PER_THREAD),
+                r -> {
+                    Thread t = new Thread(r, "password-hasher-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (task, pool) -> {
+                    // 종료 중이어도 대기 중인 호출자가 멈추지 않도록 직접 실행 (해시 자체는 허가를 받은 뒤)
+                    callerRuns.increment();
+                    task.run();
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    // ✅ 단건 해시 (호출 스레드에서 실행, 동시 요청이 많아도 해시 동시 실행 수는 코어 수로 제한)
+    public String encode(String rawPassword) {
+        return timedEncode(rawPassword);
+    }
+
+    // ✅ 일괄 해시 (입력 순서대로 결과 반환)
+    public List<String> encodeAll(List<String> rawPasswords) {
+        long start = System.nanoTime();
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String raw : rawPasswords) {
+            futures.add(executor.submit(() -> timedEncode(raw)));
+        }
+        List<String> encoded = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            encoded.add(await(future));
+        }
+        long elapsed = System.nanoTime() - start;
+        if (!encoded.isEmpty() && elapsed > 0) {
+            lastBatchRowsPerSec = encoded.size() * 1_000_000_000.0 / elapsed;
+        }
+        return encoded;
+    }
+
+    // ✅ 처리량 지표 (관리자 모니터링용)
+    public Map<String, Object> metrics() {
+        long count = hashed.sum();
+        long nanos = hashNanos.sum();
+
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("poolSize", executor.getMaximumPoolSize());
+        m.put("activeThreads", executor.getActiveCount());
+        m.put("hashingNow", executor.getMaximumPoolSize() - permits.availablePermits());
+        m.put("waitingForPermit", permits.getQueueLength());
+        m.put("queued", executor.getQueue().size());
+        m.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        m.put("hashed", count);
+        m.put("callerRuns", callerRuns.sum());
+        m.put("avgHashMs", count > 0 ? nanos / 1_000_000.0 / count : 0);
+        m.put("lastBatchRowsPerSec", lastBatchRowsPerSec);
+        return m;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private String timedEncode(String raw) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 작업이 중단되었습니다.", e);
+        }
+        try {
+            long start = System.nanoTime();
+            String encoded = passwordEncoder.encode(raw);
+            hashNanos.add(System.nanoTime() - start);
+            hashed.increment();
+            return encoded;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static String await(Future<String> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 작업이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("비밀번호 해시 실패", cause);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 실행할 작업을 등록하는 헬퍼
+ * - 트랜잭션 밖에서 호출되면 즉시 실행
+ * - 롤백되면 실행하지 않음 (롤백 시 정리할 작업은 onRollback 으로 등록)
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 현재 트랜잭션이 롤백되면 실행 (트랜잭션 밖이면 아무것도 하지 않음)
+    public static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
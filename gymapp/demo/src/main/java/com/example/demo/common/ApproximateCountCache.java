@@ -0,0 +1,46 @@
+package com.example.demo.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 근사 건수 캐시
+ * - 같은 검색 조건의 COUNT 결과를 ttl-ms 동안 재사용 (페이지를 넘길 때마다 COUNT 하지 않음)
+ * - 그 사이 추가/삭제된 기록은 다음 계산 때 반영되므로 "근사치"
+ */
+@Component
+public class ApproximateCountCache {
+
+    private record Entry(long count, long computedAtMs) {}
+
+    private final BoundedLruCache<String, Entry> cache;
+    private final long ttlMs;
+
+    public ApproximateCountCache(@Value("${app.search.approx-count-cache-size:1000}") int maxSize,
+                                 @Value("${app.search.approx-count-ttl-ms:60000}") long ttlMs) {
+        this.cache = new BoundedLruCache<>(maxSize);
+        this.ttlMs = ttlMs;
+    }
+
+    // 검색 조건 → 캐시 키
+    public static String key(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (Object part : parts) {
+            sb.append(part).append('\u0000');
+        }
+        return sb.toString();
+    }
+
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        Entry e = cache.get(key);
+        if (e != null && now - e.computedAtMs() < ttlMs) {
+            return e.count();
+        }
+        long count = counter.getAsLong();
+        cache.put(key, new Entry(count, now));
+        return count;
+    }
+}
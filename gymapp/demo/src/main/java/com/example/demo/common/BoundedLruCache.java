@@ -0,0 +1,57 @@
+package com.example.demo.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기가 정해진 LRU 캐시 (스레드 안전)
+ * - 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ * - 조회/갱신이 가벼운 작은 값 캐시용 (전역 락 하나로 동기화)
+ */
+public class BoundedLruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> map;
+
+    public BoundedLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > BoundedLruCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void removeIf(Predicate<V> condition) {
+        map.values().removeIf(condition);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+}
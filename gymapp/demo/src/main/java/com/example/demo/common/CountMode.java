@@ -0,0 +1,10 @@
+package com.example.demo.common;
+
+/**
+ * 목록 검색의 전체 건수 계산 방식
+ */
+public enum CountMode {
+    NONE,    // 건수 없음 (size + 1 건만 읽어 다음 페이지 여부만 판단)
+    APPROX,  // 근사치 (검색 색인 후보 수 또는 잠시 캐시된 COUNT)
+    EXACT    // 매 요청 COUNT 쿼리 실행
+}
@@ -0,0 +1,22 @@
+package com.example.demo.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 기반 페이지 응답
+ * - nextCursor 를 다음 요청의 cursor 파라미터로 그대로 넘기면 이어서 조회
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    // size + 1 건을 조회한 결과로 페이지 구성 (마지막 1건은 다음 페이지 존재 여부 판단용)
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(List.copyOf(content), nextCursor, hasNext);
+    }
+}
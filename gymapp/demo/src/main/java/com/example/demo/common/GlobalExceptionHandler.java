@@ -1,6 +1,8 @@
 package com.example.demo.common;
 
+import com.example.demo.auth.LoginOverloadedException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -30,6 +32,14 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, msg);
     }
 
+    // 로그인 대기열 포화 → 503 + Retry-After
+    @ExceptionHandler(LoginOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleLoginOverloaded(LoginOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()).getBody());
+    }
+
     // 나머지 모든 예외
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneric(Exception ex) {
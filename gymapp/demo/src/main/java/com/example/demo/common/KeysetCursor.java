@@ -0,0 +1,52 @@
+package com.example.demo.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 불투명 커서 (정렬 키 + id)
+ * - 클라이언트에는 Base64URL 문자열로만 노출
+ */
+public record KeysetCursor(String key, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(raw.substring(0, idx), Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    // 비어 있으면 null (첫 페이지)
+    public static KeysetCursor decodeOrNull(String cursor) {
+        return cursor != null && !cursor.isBlank() ? decode(cursor) : null;
+    }
+
+    // 일시 정렬 키 커서
+    public static String of(LocalDateTime key, long id) {
+        return new KeysetCursor(key.toString(), id).encode();
+    }
+
+    public LocalDateTime dateTimeKey() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    // 요청 페이지 크기 보정 (1 ~ max)
+    public static int clampSize(int size, int max) {
+        return Math.max(1, Math.min(size, max));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.common;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * COUNT 없는 페이지 응답
+ * - hasNext 는 size + 1 건 조회로 판단
+ * - totalElements 는 요청한 경우에만 채움 (totalExact=false 면 근사치)
+ */
+public record SliceResponse<T>(
+        List<T> content,
+        int number,
+        int size,
+        boolean first,
+        boolean last,
+        boolean hasNext,
+        Long totalElements,
+        boolean totalExact
+) {
+    public static <T> SliceResponse<T> of(Slice<T> slice, Long total, boolean exact) {
+        // 마지막 페이지면 앞 페이지 수 + 현재 건수로 정확한 전체 건수를 알 수 있음
+        // (끝을 지난 빈 페이지는 앞 페이지가 꽉 찼는지 알 수 없으므로 제외 → 전체 건수 모름)
+        if (!slice.hasNext()) {
+            if (slice.hasContent() || slice.getNumber() == 0) {
+                total = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+                exact = true;
+            } else {
+                total = null;
+                exact = false;
+            }
+        }
+        return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(),
+                slice.isFirst(), slice.isLast(), slice.hasNext(), total, total != null && exact);
+    }
+
+    public static <T> SliceResponse<T> of(Page<T> page) {
+        return new SliceResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.isFirst(), page.isLast(), page.hasNext(), page.getTotalElements(), true);
+    }
+
+    public static <T> SliceResponse<T> empty(Pageable pageable) {
+        return new SliceResponse<>(List.of(), pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getPageNumber() == 0, true, false, 0L, true);
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 @Profile("prod") // 운영 환경에서만 등록
@@ -13,4 +14,10 @@ public class AwsConfig {
     public S3Client s3Client() {
         return S3Client.create();
     }
+
+    // 미디어 GET 서명 URL 생성용 (서명은 로컬 계산, 네트워크 호출 없음)
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        return S3Presigner.create();
+    }
 }
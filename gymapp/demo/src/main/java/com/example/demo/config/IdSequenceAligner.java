@@ -0,0 +1,56 @@
+package com.example.demo.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티 ID 시퀀스를 기존 테이블의 최대 ID 이후로 맞추는 초기화 작업
+ * - IDENTITY(AUTO_INCREMENT) 로 쌓인 기존 데이터와 새 시퀀스 값이 겹치지 않도록 함
+ * - ddl-auto 로 시퀀스가 만들어진 뒤, 웹 서버가 요청을 받기 전에 한 번 실행
+ * - MariaDB SETVAL 은 현재 값보다 작은 값을 무시하므로 여러 번 실행해도 안전
+ */
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory emf;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SessionFactoryImplementor sf = emf.unwrap(SessionFactoryImplementor.class);
+        sf.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)
+                    || !(persister instanceof AbstractEntityPersister entityPersister)) {
+                return;
+            }
+            DatabaseStructure structure = generator.getDatabaseStructure();
+            if (!structure.isPhysicalSequence()) {
+                return;
+            }
+            align(structure.getPhysicalName().render(),
+                    entityPersister.getTableName(),
+                    entityPersister.getIdentifierColumnNames()[0]);
+        });
+    }
+
+    private void align(String sequence, String table, String idColumn) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+            if (maxId == null) {
+                return;
+            }
+            jdbcTemplate.queryForObject("SELECT SETVAL(" + sequence + ", ?)", Long.class, maxId);
+        } catch (Exception e) {
+            System.err.println("ID 시퀀스 정렬 실패 (" + sequence + " ← " + table + "): " + e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -16,6 +17,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.http.HttpMethod;
 
 import com.example.demo.auth.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 
 import java.util.Arrays;
 
@@ -26,21 +28,31 @@ public class SecurityConfigDev {
 
     private final JwtAuthFilter jwtAuthFilter;
 
+    // 예전 미리보기 주소 익명 허용 여부 (WorkoutMediaController / DietMediaController 와 같은 설정)
+    @Value("${app.media.legacy-preview-public:false}")
+    private boolean legacyPreviewPublic;
+
     @Bean
 public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    // 예전 클라이언트는 미리보기 주소를 <img src> 로 불러 Bearer 헤더를 보내지 못함
+    // → local 은 /media/** 파일 자체가 공개이므로 이 주소도 익명 허용 (권한 확인은 컨트롤러에서 생략)
+    if (legacyPreviewPublic) {
+        http.authorizeHttpRequests(auth -> auth
+            .requestMatchers(HttpMethod.GET, "/api/workout-logs/*/media", "/api/diet-logs/*/media").permitAll());
+    }
     http
         .cors(cors -> cors.configurationSource(corsConfigurationSource()))
         .csrf(csrf -> csrf.disable())
         .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(auth -> auth
+            // SSE 등 비동기 응답의 재디스패치 허용 (최초 요청에서 이미 인증됨)
+            .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
             .requestMatchers(
                 "/v3/api-docs/**",
                 "/swagger-ui/**",
                 "/swagger-ui.html",
                 "/api/auth/**",
-                "/media/**",
-                "/api/workout-logs/*/media",  // 정확한 패턴
-                "/api/diet-logs/*/media"      // 정확한 패턴
+                "/media/**"
             ).permitAll()
 
             // 트레이너/관리자만 접근 가능한 API 경로를 명시적으로 추가합니다.
@@ -1,6 +1,7 @@
 package com.example.demo.config;
 
 import com.example.demo.auth.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,8 @@ public class SecurityConfigProd {
                 "/swagger-ui/**",
                 "/swagger-ui.html"
             ).permitAll()
+            // SSE 등 비동기 응답의 재디스패치 허용 (최초 요청에서 이미 인증됨)
+            .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
             // 로그인/회원가입 API 허용
             .requestMatchers("/api/auth/**").permitAll()
             // 나머지는 인증 필요
@@ -1,11 +1,17 @@
 package com.example.demo.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -19,8 +25,25 @@ public class WebConfig implements WebMvcConfigurer {
                 .addResourceLocations("file:uploads/");
         
         // media 폴더를 직접 매핑 추가
+        // 파일명이 내용 해시(SHA-256)라 같은 URL 의 내용은 바뀌지 않음 → 1년 immutable 캐시
         registry.addResourceHandler("/media/**")
-                .addResourceLocations("file:uploads/media/");
+                .addResourceLocations("file:uploads/media/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
+    }
+
+    // OSIV 는 직접 등록 (spring.jpa.open-in-view=false)
+    // 오래 열려 있는 응답(내보내기 다운로드 / SSE / 영상 구간 스트리밍)은 제외 → 요청 EntityManager 가 응답 내내 커넥션을 잡지 않음
+    // (스트리밍의 기록 조회 / 권한 확인은 각각 짧은 읽기 트랜잭션에서 끝나고, 지연 로딩 없이 MediaRef 만 사용)
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns("/api/admin/export/**", "/api/notifications/stream",
+                        "/api/workout-logs/*/media/stream");
     }
 
     @Override
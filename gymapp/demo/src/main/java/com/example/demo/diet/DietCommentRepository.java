@@ -1,7 +1,15 @@
 package com.example.demo.diet;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface DietCommentRepository extends JpaRepository<DietComment, Long> {
     
@@ -9,4 +17,14 @@ public interface DietCommentRepository extends JpaRepository<DietComment, Long>
     List<DietComment> findByDietLogIdOrderByCreatedAtAsc(Long dietLogId);
 
     List<DietComment> findByDietLogId(Long dietLogId);
+
+    // 검색 색인 재구축용 (id, 식단일지 주인 memberId, createdAt, content)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c.id, c.dietLog.member.id, c.createdAt, c.content FROM DietComment c")
+    Stream<Object[]> streamSearchRows();
+
+    // 통합 검색 결과 채우기용 (id, 식단일지 id, 식단일지 주인 memberId, content, createdAt)
+    // → 댓글마다 식단일지를 지연 로딩하지 않도록 조인 한 번으로
+    @Query("SELECT c.id, c.dietLog.id, c.dietLog.member.id, c.content, c.createdAt FROM DietComment c WHERE c.id IN :ids")
+    List<Object[]> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
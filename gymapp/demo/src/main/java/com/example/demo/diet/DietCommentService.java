@@ -5,6 +5,8 @@ import com.example.demo.diet.dto.DietCommentRequest;
 import com.example.demo.diet.dto.DietCommentResponse;
 import com.example.demo.member.Member;
 import com.example.demo.member.MemberRepository;
+import com.example.demo.search.SearchDocType;
+import com.example.demo.search.SearchIndexer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -24,6 +26,7 @@ public class DietCommentService {
     private final DietLogRepository logRepo;
     private final MemberRepository memberRepo;
     private final DietLogService dietLogService; // 권한 체크 헬퍼 재사용
+    private final SearchIndexer searchIndexer;
 
     /**
      * 댓글 생성
@@ -47,6 +50,7 @@ public class DietCommentService {
                 .build();
 
         commentRepo.save(comment);
+        searchIndexer.dietComment(comment, dietLog.getMember().getId());
         return DietCommentResponse.fromEntity(comment);
     }
 
@@ -81,12 +85,14 @@ public class DietCommentService {
         // 1. 관리자인 경우
         if (currentUser.isAdmin()) {
             commentRepo.delete(comment);
+            searchIndexer.remove(SearchDocType.DIET_COMMENT, commentId);
             return;
         }
 
         // 2. 댓글 작성자 본인인 경우
         if (comment.getMember().getId().equals(currentUser.getId())) {
             commentRepo.delete(comment);
+            searchIndexer.remove(SearchDocType.DIET_COMMENT, commentId);
             return;
         }
 
@@ -94,6 +100,7 @@ public class DietCommentService {
         if (currentUser.isTrainer()) {
             if (logOwner.getTrainer() != null && logOwner.getTrainer().getId().equals(currentUser.getId())) {
                 commentRepo.delete(comment);
+                searchIndexer.remove(SearchDocType.DIET_COMMENT, commentId);
                 return;
             }
         }
@@ -13,10 +13,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_diet_log_member_created", columnList = "member_id, created_at"))
 public class DietLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +30,9 @@ public class DietLog {
     private String mediaUrl;   // 사진/영상 URL
     private String mediaType;  // IMAGE / VIDEO
 
+    private String thumbnailUrl; // 목록용 썸네일 (업로드 후 비동기 생성, 생성 전/영상이면 null)
+    private String mediumUrl;    // 상세 화면용 중간 크기
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -2,6 +2,9 @@ package com.example.demo.diet;
 
 import com.example.demo.diet.dto.DietLogRequest;
 import com.example.demo.diet.dto.DietLogResponse;
+import com.example.demo.common.CountMode;
+import com.example.demo.common.CursorPage;
+import com.example.demo.common.SliceResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,7 +18,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import com.example.demo.auth.UserPrincipal;
-import jakarta.persistence.EntityNotFoundException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,7 +28,6 @@ import java.util.List;
 public class DietLogController {
 
     private final DietLogService service;
-    private final DietLogRepository repo;  // ✨ 추가
 
     // ✅ 생성
     @PostMapping
@@ -43,27 +44,7 @@ public class DietLogController {
     // ✨ 단일 식단 조회 (새로 추가!)
     @GetMapping("/detail/{id}")
     public ResponseEntity<DietLogResponse> getById(@PathVariable Long id) {
-        DietLog log = repo.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("식단 기록을 찾을 수 없습니다: " + id));
-        
-        // 권한 체크
-        service.checkReadPermission(log.getMember().getId());
-        
-        // 응답 생성
-        DietLogResponse response = new DietLogResponse(
-                log.getId(),
-                log.getMember().getId(),
-                log.getTitle(),
-                log.getContent(),
-                log.getMediaUrl(),
-                log.getMediaType(),
-                log.getCalories(),
-                null,
-                null,
-                log.getCreatedAt()
-        );
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(service.getDetail(id));
     }
 
     // ✅ 회원별 조회
@@ -72,6 +53,14 @@ public class DietLogController {
         return service.listByMember(memberId);
     }
 
+    // ✅ 회원별 조회 (커서 페이지, 최신순 / 응답의 nextCursor 로 이어서 조회)
+    @GetMapping("/member/{memberId}/page")
+    public CursorPage<DietLogResponse> listByMemberPage(@PathVariable Long memberId,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        return service.listByMemberPage(memberId, cursor, size);
+    }
+
     // ✅ 전체 조회 (관리자만)
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
@@ -81,19 +70,20 @@ public class DietLogController {
         return service.findAll(pageable);
     }
 
-    // ✅ 검색/필터링
+    // ✅ 검색/필터링 (기본은 COUNT 없이 hasNext 만, count=APPROX|EXACT 로 전체 건수 요청)
     @GetMapping("/search")
-    public Page<DietLogResponse> search(
+    public SliceResponse<DietLogResponse> search(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long memberId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
             @RequestParam(required = false) String mediaType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "NONE") CountMode count
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return service.search(keyword, memberId, fromDate, toDate, mediaType, pageable);
+        return service.search(keyword, memberId, fromDate, toDate, mediaType, pageable, count);
     }
 
     // ✅ 수정
@@ -102,8 +92,9 @@ public class DietLogController {
     public DietLogResponse update(@PathVariable Long logId,
                                   @RequestParam String title,
                                   @RequestParam String content,
-                                  @RequestParam(required = false) MultipartFile media) {
-        return service.update(logId, new DietLogRequest(title, content, media, null));
+                                  @RequestParam(required = false) MultipartFile media,
+                                  @RequestParam(required = false) String mediaUrl) {
+        return service.update(logId, new DietLogRequest(title, content, media, mediaUrl, null));
     }
 
     // ✅ 삭제
@@ -2,41 +2,67 @@ package com.example.demo.diet;
 
 import com.example.demo.ai.AiNutritionService;
 import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.ApproximateCountCache;
+import com.example.demo.common.CountMode;
+import com.example.demo.common.CursorPage;
+import com.example.demo.common.KeysetCursor;
+import com.example.demo.common.SliceResponse;
 import com.example.demo.common.enums.Role;
 import com.example.demo.diet.dto.DietLogRequest;
 import com.example.demo.diet.dto.DietLogResponse;
 import com.example.demo.member.Member;
+import com.example.demo.member.MemberOwnershipIndex;
 import com.example.demo.member.MemberRepository;
+import com.example.demo.member.dto.MemberOwnership;
 import com.example.demo.notification.NotificationService;
 import com.example.demo.notification.NotificationType;
+import com.example.demo.search.SearchDocType;
+import com.example.demo.search.SearchIndex;
+import com.example.demo.search.SearchIndexer;
+import com.example.demo.storage.FileService;
 import com.example.demo.storage.FileStorage;
+import com.example.demo.storage.ImageVariantGenerator;
+import com.example.demo.storage.MediaUrlCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class DietLogService {
 
+    // 키워드 검색 시 색인 결과로 처리할 최대 건수 (넘으면 DB LIKE 검색으로)
+    private static final int MAX_KEYWORD_CANDIDATES = 5000;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final DietLogRepository logRepo;
     private final MemberRepository memberRepo;
+    private final MemberOwnershipIndex ownershipIndex;
     private final FileStorage fileStorage;
+    private final FileService fileService;
     private final NotificationService notiService;
     private final AiNutritionService aiService;
     private final DietCommentRepository commentRepo;
+    private final SearchIndex searchIndex;
+    private final SearchIndexer searchIndexer;
+    private final ApproximateCountCache countCache;
+    private final MediaUrlCache mediaUrls;
+    private final ImageVariantGenerator imageVariants;
 
     // ✅ 생성
     public DietLogResponse create(Long memberId, DietLogRequest req) {
@@ -47,11 +73,11 @@ public class DietLogService {
 
         String mediaUrl = null;
         String mediaType = null;
-        MultipartFile file = req.media();
+        FileService.AttachedMedia media = fileService.attach(req.media(), req.mediaUrl(), getCurrentUser().getId());
 
-        if (file != null && !file.isEmpty()) {
-            mediaUrl = fileStorage.save(file);
-            mediaType = getMediaType(file);
+        if (media != null) {
+            mediaUrl = media.url();
+            mediaType = getMediaType(media.contentType());
         }
 
         // AI 분석 (코드는 기존과 동일하여 생략)
@@ -81,7 +107,10 @@ public class DietLogService {
                 .build();
 
         logRepo.save(log);
-        notiService.create(memberId, NotificationType.SUCCESS, "식단 기록이 작성되었습니다!");
+        searchIndexer.dietLog(log);
+        mediaUrls.evict(MediaUrlCache.DIET, log.getId());
+        requestVariants(log);
+        notiService.publish(memberId, NotificationType.SUCCESS, "식단 기록이 작성되었습니다!");
         return toRes(log); // toRes로 응답 생성 단순화
     }
 
@@ -94,15 +123,22 @@ public class DietLogService {
         log.setTitle(req.title());
         log.setContent(req.content());
 
-        if (req.media() != null && !req.media().isEmpty()) {
+        FileService.AttachedMedia media = fileService.attach(req.media(), req.mediaUrl(), getCurrentUser().getId());
+        if (media != null) {
             if (log.getMediaUrl() != null) {
                 fileStorage.delete(log.getMediaUrl());
             }
-            log.setMediaUrl(fileStorage.save(req.media()));
-            log.setMediaType(getMediaType(req.media()));
+            imageVariants.delete(log.getThumbnailUrl(), log.getMediumUrl());
+            log.setMediaUrl(media.url());
+            log.setMediaType(getMediaType(media.contentType()));
+            log.setThumbnailUrl(null);
+            log.setMediumUrl(null);
+            mediaUrls.evict(MediaUrlCache.DIET, logId);
+            requestVariants(log);
         }
+        searchIndexer.dietLog(log);
 
-        notiService.create(log.getMember().getId(), NotificationType.SUCCESS, "식단 기록이 수정되었습니다!");
+        notiService.publish(log.getMember().getId(), NotificationType.SUCCESS, "식단 기록이 수정되었습니다!");
         return toRes(log);
     }
 
@@ -119,6 +155,7 @@ public class DietLogService {
         if (!comments.isEmpty()) {
             System.out.println("식단 기록 삭제 전 댓글 " + comments.size() + "개 삭제");
             commentRepo.deleteAll(comments);
+            searchIndexer.removeAll(SearchDocType.DIET_COMMENT, comments.stream().map(DietComment::getId).toList());
         }
     } catch (Exception e) {
         System.err.println("댓글 삭제 중 오류: " + e.getMessage());
@@ -128,11 +165,23 @@ public class DietLogService {
     if (log.getMediaUrl() != null) {
         fileStorage.delete(log.getMediaUrl());
     }
+    imageVariants.delete(log.getThumbnailUrl(), log.getMediumUrl());
     
     logRepo.delete(log);
-    notiService.create(log.getMember().getId(), NotificationType.WARNING, "식단 기록이 삭제되었습니다.");
+    searchIndexer.remove(SearchDocType.DIET_LOG, logId);
+    mediaUrls.evict(MediaUrlCache.DIET, logId);
+    notiService.publish(log.getMember().getId(), NotificationType.WARNING, "식단 기록이 삭제되었습니다.");
 }
 
+    // ✅ 단건 조회 (권한 체크)
+    @Transactional(readOnly = true)
+    public DietLogResponse getDetail(Long logId) {
+        DietLog log = logRepo.findById(logId)
+                .orElseThrow(() -> new EntityNotFoundException("식단 기록을 찾을 수 없습니다: " + logId));
+        checkReadPermission(log.getMember().getId());
+        return toRes(log);
+    }
+
     // ✅ 회원별 조회
     @Transactional(readOnly = true)
     public List<DietLogResponse> listByMember(Long memberId) {
@@ -142,6 +191,22 @@ public class DietLogService {
                 .toList();
     }
 
+    // ✅ 회원별 조회 (커서 페이지, 최신순 / 깊이와 무관하게 페이지마다 인덱스 범위만 읽음)
+    @Transactional(readOnly = true)
+    public CursorPage<DietLogResponse> listByMemberPage(Long memberId, String cursor, int size) {
+        checkReadPermission(memberId);
+        int limit = KeysetCursor.clampSize(size, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decodeOrNull(cursor);
+        List<DietLogResponse> rows = logRepo.findPageByMemberId(memberId,
+                        after != null ? after.dateTimeKey() : null,
+                        after != null ? after.id() : null,
+                        PageRequest.of(0, limit + 1))
+                .stream()
+                .map(this::toRes)
+                .toList();
+        return CursorPage.of(rows, limit, r -> KeysetCursor.of(r.createdAt(), r.id()));
+    }
+
     // ✅ 전체 조회 (관리자 전용)
     @Transactional(readOnly = true)
     public Page<DietLogResponse> findAll(Pageable pageable) {
@@ -154,14 +219,43 @@ public class DietLogService {
 
     // ✅ 검색/필터링
     @Transactional(readOnly = true)
-    public Page<DietLogResponse> search(
-            String keyword, Long memberId, LocalDateTime fromDate, LocalDateTime toDate, String mediaType, Pageable pageable
+    public SliceResponse<DietLogResponse> search(
+            String keyword, Long memberId, LocalDateTime fromDate, LocalDateTime toDate, String mediaType, Pageable pageable,
+            CountMode countMode
     ) {
         if (memberId != null) {
             checkReadPermission(memberId); // 🔒 권한 체크
         }
-        return logRepo.search(keyword, memberId, fromDate, toDate, mediaType, pageable)
+        // 키워드는 검색 색인에서 id 를 찾고, 나머지 조건은 id 범위 안에서만 DB 필터링
+        // (색인 결과가 상한을 넘으면 잘라내지 않고 아래 DB 검색으로)
+        if (keyword != null && !keyword.isBlank() && searchIndex.isReady()) {
+            Optional<List<Long>> matched = searchIndex.matchIds(SearchDocType.DIET_LOG, keyword, memberId,
+                    fromDate, toDate, MAX_KEYWORD_CANDIDATES);
+            if (matched.isPresent()) {
+                List<Long> ids = matched.get();
+                if (ids.isEmpty()) return SliceResponse.empty(pageable);
+                if (countMode == CountMode.EXACT) {
+                    return SliceResponse.of(logRepo.findByIdInAndMediaType(ids, mediaType, pageable).map(this::toRes));
+                }
+                // 근사치 = 색인 결과 수 (미디어 종류 필터 전이므로 mediaType 이 없을 때만 정확)
+                Long total = countMode == CountMode.APPROX ? (long) ids.size() : null;
+                return SliceResponse.of(logRepo.findSliceByIdInAndMediaType(ids, mediaType, pageable).map(this::toRes),
+                        total, mediaType == null);
+            }
+        }
+
+        if (countMode == CountMode.EXACT) {
+            return SliceResponse.of(logRepo.search(keyword, memberId, fromDate, toDate, mediaType, pageable)
+                    .map(this::toRes));
+        }
+        Slice<DietLogResponse> slice = logRepo.searchSlice(keyword, memberId, fromDate, toDate, mediaType, pageable)
                 .map(this::toRes);
+        Long total = null;
+        if (countMode == CountMode.APPROX && slice.hasNext()) {
+            total = countCache.get(ApproximateCountCache.key("diet", keyword, memberId, fromDate, toDate, mediaType),
+                    () -> logRepo.countSearch(keyword, memberId, fromDate, toDate, mediaType));
+        }
+        return SliceResponse.of(slice, total, false);
     }
 
     // ========================
@@ -175,19 +269,19 @@ public class DietLogService {
         UserPrincipal user = getCurrentUser();
         if (user.isAdmin()) return; // 관리자 전체 허용
 
-        Member member = memberRepo.findById(ownerId)
+        MemberOwnership owner = ownershipIndex.find(ownerId)
                 .orElseThrow(() -> new EntityNotFoundException("회원 없음: " + ownerId));
 
         // 담당 트레이너 허용
         if (user.isTrainer()) {
-            if (member.getTrainer() != null && member.getTrainer().getId().equals(user.getId())) {
+            if (owner.isTrainedBy(user.getId())) {
                 return;
             }
         }
 
         // PT 회원 본인 허용
         if (user.getId().equals(ownerId)) {
-            if (member.getRole() == Role.PT) {
+            if (owner.role() == Role.PT) {
                 return;
             }
             throw new AccessDeniedException("PT 회원만 식단 기록을 작성/수정/삭제할 수 있습니다.");
@@ -205,9 +299,9 @@ public class DietLogService {
         if (user.getId().equals(ownerId)) return; // 본인 허용 (OT, PT 모두)
 
         if (user.isTrainer()) {
-            Member member = memberRepo.findById(ownerId)
+            MemberOwnership owner = ownershipIndex.find(ownerId)
                     .orElseThrow(() -> new EntityNotFoundException("회원 없음: " + ownerId));
-            if (member.getTrainer() != null && member.getTrainer().getId().equals(user.getId())) {
+            if (owner.isTrainedBy(user.getId())) {
                 return; // 담당 트레이너 허용
             }
         }
@@ -270,12 +364,15 @@ public class DietLogService {
 
     private DietLogResponse toRes(DietLog log) {
         // AI 분석 결과는 create 시에만 포함되므로, 조회 시에는 null로 처리하거나 필요 시 별도 로직 추가
+        String mediaUrl = fileStorage.publicUrl(log.getMediaUrl()); // 리다이렉트 없이 바로 쓸 수 있는 URL
         return new DietLogResponse(
                 log.getId(),
                 log.getMember().getId(),
                 log.getTitle(),
                 log.getContent(),
-                log.getMediaUrl(),
+                mediaUrl,
+                log.getThumbnailUrl() != null ? fileStorage.publicUrl(log.getThumbnailUrl()) : mediaUrl,
+                log.getMediumUrl() != null ? fileStorage.publicUrl(log.getMediumUrl()) : mediaUrl,
                 log.getMediaType(),
                 log.getCalories(),
                 null, // aiCalories
@@ -284,8 +381,16 @@ public class DietLogService {
         );
     }
 
-    private String getMediaType(MultipartFile file) {
-        String contentType = file.getContentType();
+    // 이미지면 커밋 이후 썸네일/중간 크기 생성 예약
+    private void requestVariants(DietLog log) {
+        if (!"IMAGE".equals(log.getMediaType())) return;
+        Long id = log.getId();
+        String mediaUrl = log.getMediaUrl();
+        imageVariants.submit(mediaUrl,
+                v -> logRepo.updateVariants(id, mediaUrl, v.thumbnailUrl(), v.mediumUrl()) > 0);
+    }
+
+    private String getMediaType(String contentType) {
         return (contentType != null && contentType.startsWith("video")) ? "VIDEO" : "IMAGE";
     }
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ public record DietLogResponse(
         String title,
         String content,
         String mediaUrl,
+        String thumbnailUrl, // 목록용 썸네일 (아직 없으면 원본 URL)
+        String mediumUrl,    // 상세 화면용 중간 크기 (아직 없으면 원본 URL)
         String mediaType,
         Integer calories,   // ✅ 칼로리 저장
         String aiCalories,   // ✅ 추가
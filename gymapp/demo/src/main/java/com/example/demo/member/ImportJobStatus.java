@@ -0,0 +1,8 @@
+package com.example.demo.member;
+
+public enum ImportJobStatus {
+    QUEUED,     // 대기
+    RUNNING,    // 처리 중 (재시작 시 마지막 커밋 청크 이후부터 재개)
+    COMPLETED,  // 완료
+    FAILED      // 파일 오류 등으로 중단
+}
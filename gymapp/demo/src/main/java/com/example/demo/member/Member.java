@@ -3,7 +3,6 @@ package com.example.demo.member;
 import com.example.demo.common.BaseEntity;
 import com.example.demo.common.enums.Role;
 import com.example.demo.common.enums.UserStatus;
-import com.example.demo.membership.Membership;
 import com.example.demo.common.enums.Gender;           // ✨ 추가
 import com.example.demo.common.enums.AccountStatus;    // ✨ 추가
 import jakarta.persistence.*;
@@ -72,7 +71,6 @@ public class Member extends BaseEntity {
     @JoinColumn(name = "trainer_id")
     private Member trainer;
 
-    // ✅ 회원권과의 1:1 관계 (양방향)
-    @OneToOne(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
-    private Membership membership;
+    // ✅ 회원권은 Membership.member 단방향으로만 매핑 (MembershipRepository.findByMemberId 로 조회)
+    //    역방향 1:1 은 지연 로딩이 안 돼 회원을 읽을 때마다 memberships 를 추가로 조회했음
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.example.demo.member;
 
 import com.example.demo.auth.UserPrincipal;
 import com.example.demo.member.dto.MemberCreateRequest;
+import com.example.demo.member.dto.MemberImportErrorResponse;
+import com.example.demo.member.dto.MemberImportJobResponse;
 import com.example.demo.member.dto.MemberResponse;
 import com.example.demo.member.dto.MemberUpdateRequest;
 import com.example.demo.member.dto.PasswordChangeRequest;
@@ -9,11 +11,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -22,6 +26,7 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService service;
+    private final MemberImportJobService importJobService;
 
     // ✅ 회원 생성 (회원가입)
     @PostMapping
@@ -108,15 +113,29 @@ public class MemberController {
         return service.getTraineesWithPermission(trainerId, user);
     }
 
-    // ✅ Excel 파일로 회원 일괄 등록
+    // ✅ Excel 파일로 회원 일괄 등록 (작업 등록 후 202 반환, 처리는 백그라운드)
     @PostMapping("/upload-excel")
     @PreAuthorize("hasAnyRole('TRAINER', 'ADMIN')")
-    public void uploadExcel(@RequestParam("file") MultipartFile file,
-                            @AuthenticationPrincipal UserPrincipal user) {
-        try {
-            service.createMembersFromExcel(file, user);
-        } catch (Exception e) {
-            throw new RuntimeException("Excel 파일 업로드 및 처리 중 오류 발생: " + e.getMessage());
-        }
+    public ResponseEntity<MemberImportJobResponse> uploadExcel(@RequestParam("file") MultipartFile file,
+                                                               @AuthenticationPrincipal UserPrincipal user) throws IOException {
+        return ResponseEntity.accepted().body(importJobService.submit(file, user));
+    }
+
+    // ✅ 일괄 등록 작업 진행 상황
+    @PreAuthorize("hasAnyRole('TRAINER', 'ADMIN')")
+    @GetMapping("/import-jobs/{jobId}")
+    public MemberImportJobResponse importJob(@PathVariable Long jobId,
+                                             @AuthenticationPrincipal UserPrincipal user) {
+        return importJobService.getJob(jobId, user);
+    }
+
+    // ✅ 일괄 등록 작업에서 등록되지 않은 행과 사유
+    @PreAuthorize("hasAnyRole('TRAINER', 'ADMIN')")
+    @GetMapping("/import-jobs/{jobId}/errors")
+    public Page<MemberImportErrorResponse> importJobErrors(@PathVariable Long jobId,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "50") int size,
+                                                           @AuthenticationPrincipal UserPrincipal user) {
+        return importJobService.getErrors(jobId, user, PageRequest.of(page, size));
     }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.example.demo.member;
+
+import com.example.demo.auth.PasswordHasher;
+import com.example.demo.common.enums.AccountStatus;
+import com.example.demo.common.enums.Gender;
+import com.example.demo.common.enums.Role;
+import com.example.demo.common.enums.UserStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 엑셀 회원 일괄 등록 - 청크 처리기
+ * - 청크마다 전화번호 IN (...) 조회로 기존 회원을 걸러내고 saveAll → flush → clear
+ * - 비밀번호 해시는 청크 단위로 PasswordHasher 작업자 풀에 분산
+ * - 건너뛴 행 / 실패한 행은 사유와 함께 반환 (MemberImportJobRunner 가 저장)
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberExcelImporter {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final Pattern BIRTH_PATTERN = Pattern.compile("\\((.*?)\\)");
+    private static final DateTimeFormatter BIRTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-M-d");
+
+    private final MemberRepository repo;
+    private final PasswordHasher passwordHasher;
+    private final EntityManager em;
+
+    public record RowIssue(int rowNumber, String phone, MemberImportError.Kind kind, String reason) {}
+
+    public record ChunkResult(int imported, List<RowIssue> issues) {}
+
+    // ✅ 한 청크 처리 (호출자의 트랜잭션 안에서 실행)
+    public ChunkResult importChunk(List<MemberExcelReader.Row> rows, Long trainerId) {
+        List<RowIssue> issues = new ArrayList<>();
+
+        // 1. 필수값 검증 + 파일 내 중복 제거
+        List<MemberExcelReader.Row> candidates = new ArrayList<>(rows.size());
+        Set<String> chunkPhones = new HashSet<>();
+        for (MemberExcelReader.Row row : rows) {
+            if (row.name().isEmpty()) {
+                issues.add(failed(row, "이름이 비어 있습니다."));
+            } else if (row.phone().length() < 4) {
+                issues.add(failed(row, "전화번호 형식이 올바르지 않습니다."));
+            } else if (!chunkPhones.add(row.phone())) {
+                issues.add(skipped(row, "파일 안에 같은 전화번호가 있습니다."));
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) return new ChunkResult(0, issues);
+
+        // 2. 이미 가입된 전화번호 조회 (앞선 청크에서 등록한 회원도 포함)
+        Set<String> existing = new HashSet<>(repo.findPhonesIn(chunkPhones));
+
+        // 3. 신규 회원 비밀번호 일괄 해시 (전화번호 뒤 4자리)
+        List<MemberExcelReader.Row> newRows = new ArrayList<>(candidates.size());
+        for (MemberExcelReader.Row row : candidates) {
+            if (existing.contains(row.phone())) {
+                issues.add(skipped(row, "이미 등록된 전화번호입니다."));
+                continue;
+            }
+            newRows.add(row);
+        }
+        List<String> passwords = passwordHasher.encodeAll(newRows.stream()
+                .map(row -> row.phone().substring(row.phone().length() - 4))
+                .toList());
+
+        // 4. 신규 회원 생성
+        Member trainer = repo.getReferenceById(trainerId);
+        List<Member> newMembers = new ArrayList<>(newRows.size());
+        for (int i = 0; i < newRows.size(); i++) {
+            MemberExcelReader.Row row = newRows.get(i);
+            try {
+                newMembers.add(toMember(row, passwords.get(i), trainer));
+            } catch (RuntimeException e) {
+                issues.add(failed(row, e.getMessage()));
+            }
+        }
+
+        // 5. 청크 단위 저장 후 영속성 컨텍스트 비우기
+        if (!newMembers.isEmpty()) {
+            repo.saveAll(newMembers);
+            em.flush();
+            em.clear();
+        }
+        return new ChunkResult(newMembers.size(), issues);
+    }
+
+    private static RowIssue skipped(MemberExcelReader.Row row, String reason) {
+        return new RowIssue(row.rowNumber(), row.phone(), MemberImportError.Kind.SKIPPED, reason);
+    }
+
+    private static RowIssue failed(MemberExcelReader.Row row, String reason) {
+        return new RowIssue(row.rowNumber(), row.phone(), MemberImportError.Kind.FAILED, reason);
+    }
+
+    private Member toMember(MemberExcelReader.Row row, String encodedPassword, Member trainer) {
+        String phone = row.phone();
+        return Member.builder()
+                .name(row.name())
+                .phone(phone)
+                .email(phone + "@gymapp.com")
+                .password(encodedPassword)
+                .gender(parseGender(row.gender()))
+                .dateOfBirth(parseDateOfBirth(row.birth()))
+                .role(Role.OT)
+                .status(UserStatus.ACTIVE)
+                .accountStatus(AccountStatus.PENDING)
+                .trainer(trainer)
+                .registrationDate(LocalDate.now())
+                .build();
+    }
+
+    private Gender parseGender(String genderStr) {
+        if (genderStr == null) return null;
+        String lower = genderStr.toLowerCase().trim();
+        if (lower.equals("남") || lower.equals("남성") || lower.equals("male") || lower.equals("m")) {
+            return Gender.MALE;
+        } else if (lower.equals("여") || lower.equals("여성") || lower.equals("female") || lower.equals("f")) {
+            return Gender.FEMALE;
+        }
+        return null;
+    }
+
+    // 예: "35세 (1990. 1. 1)" → 1990-01-01
+    private LocalDate parseDateOfBirth(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+        Matcher matcher = BIRTH_PATTERN.matcher(text);
+        if (matcher.find()) {
+            String dateStr = matcher.group(1).trim();
+            try {
+                return LocalDate.parse(dateStr.replace(". ", "-").replace(".", "-"), BIRTH_FORMAT);
+            } catch (Exception e) {
+                System.err.println("날짜 파싱 실패: " + dateStr);
+                return null;
+            }
+        }
+        return null;
+    }
+}
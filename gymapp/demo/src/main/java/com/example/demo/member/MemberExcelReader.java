@@ -0,0 +1,90 @@
+package com.example.demo.member;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * 회원 명단 엑셀(xlsx) 스트리밍 리더
+ * - XSSF 이벤트(SAX) 모델로 첫 번째 시트를 한 번만 읽음
+ * - 워크북 전체를 메모리에 올리지 않으므로 파일 크기와 무관하게 메모리 사용량 일정
+ * - 컬럼: 0 이름, 1 성별, 2 나이(생년월일), 3 전화번호 / 첫 행은 헤더
+ */
+public final class MemberExcelReader {
+
+    public record Row(int rowNumber, String name, String gender, String birth, String phone) {}
+
+    private MemberExcelReader() {
+    }
+
+    public static void read(Path xlsx, Consumer<Row> consumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(xlsx.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) return;
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowCollector(consumer), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Consumer<Row> consumer;
+        private final String[] cells = new String[4];
+        private int nextCol;
+
+        RowCollector(Consumer<Row> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, "");
+            nextCol = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) return; // 헤더
+            consumer.accept(new Row(rowNum + 1, cells[0], cells[1], cells[2], cells[3]));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // 셀 참조(r 속성)가 없는 파일은 순서대로 채움
+            int col = cellReference != null ? new CellReference(cellReference).getCol() : nextCol;
+            nextCol = col + 1;
+            if (col < cells.length) {
+                cells[col] = formattedValue != null ? formattedValue.trim() : "";
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.member;
+
+import com.example.demo.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 엑셀 회원 일괄 등록 중 등록되지 않은 행과 그 사유
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_import_errors",
+        indexes = @Index(name = "idx_import_error_job_row", columnList = "job_id, excel_row"))
+public class MemberImportError extends BaseEntity {
+
+    public enum Kind {
+        SKIPPED,  // 중복 등으로 건너뜀
+        FAILED    // 필수값 누락 / 형식 오류
+    }
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "excel_row", nullable = false)
+    private int rowNumber;
+
+    private String phone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Kind kind;
+
+    @Column(length = 500)
+    private String reason;
+
+    @Builder
+    public MemberImportError(Long jobId, int rowNumber, String phone, Kind kind, String reason) {
+        this.jobId = jobId;
+        this.rowNumber = rowNumber;
+        this.phone = phone;
+        this.kind = kind;
+        this.reason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+}
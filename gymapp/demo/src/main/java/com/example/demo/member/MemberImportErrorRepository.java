@@ -0,0 +1,10 @@
+package com.example.demo.member;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MemberImportErrorRepository extends JpaRepository<MemberImportError, Long> {
+
+    Page<MemberImportError> findByJobIdOrderByRowNumberAsc(Long jobId, Pageable pageable);
+}
@@ -0,0 +1,88 @@
+package com.example.demo.member;
+
+import com.example.demo.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엑셀 회원 일괄 등록 작업
+ * - 청크가 커밋될 때마다 진행 상황(lastCommittedRow, 건수)을 같은 트랜잭션에서 갱신
+ * - 서버가 재시작되면 lastCommittedRow 다음 행부터 이어서 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_import_jobs")
+public class MemberImportJob extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long trainerId;          // 등록될 회원의 담당 트레이너
+
+    @Column(nullable = false)
+    private Long requestedBy;        // 업로드한 사용자
+
+    private String originalFilename;
+
+    @Column(nullable = false)
+    private String storedPath;       // 처리 완료 전까지 보관하는 업로드 파일 경로
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status;
+
+    private int lastCommittedRow;    // 커밋된 마지막 엑셀 행 번호 (0 = 아직 없음)
+    private int processedRows;
+    private int importedCount;
+    private int skippedCount;
+    private int failedCount;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public MemberImportJob(Long trainerId, Long requestedBy, String originalFilename, String storedPath) {
+        this.trainerId = trainerId;
+        this.requestedBy = requestedBy;
+        this.originalFilename = originalFilename;
+        this.storedPath = storedPath;
+        this.status = ImportJobStatus.QUEUED;
+    }
+
+    public void start() {
+        this.status = ImportJobStatus.RUNNING;
+        if (this.startedAt == null) {
+            this.startedAt = LocalDateTime.now();
+        }
+    }
+
+    public void recordChunk(int lastRow, int processed, int imported, int skipped, int failed) {
+        this.lastCommittedRow = lastRow;
+        this.processedRows += processed;
+        this.importedCount += imported;
+        this.skippedCount += skipped;
+        this.failedCount += failed;
+    }
+
+    public void complete() {
+        this.status = ImportJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.status = ImportJobStatus.FAILED;
+        this.errorMessage = message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.member;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberImportJobRepository extends JpaRepository<MemberImportJob, Long> {
+
+    List<MemberImportJob> findByStatusInOrderByIdAsc(Collection<ImportJobStatus> statuses);
+}
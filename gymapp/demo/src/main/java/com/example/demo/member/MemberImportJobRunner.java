@@ -0,0 +1,160 @@
+package com.example.demo.member;
+
+import com.example.demo.admin.DashboardSnapshotService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엑셀 회원 일괄 등록 작업 실행기
+ * - 업로드 요청과 분리된 백그라운드 스레드에서 처리
+ * - CHUNK_SIZE 행마다 별도 트랜잭션으로 회원 저장 + 오류 행 저장 + 진행 상황 갱신을 함께 커밋
+ * - 서버 기동 시 끝나지 않은 작업을 마지막으로 커밋된 행 다음부터 재개
+ * - 완료 / 실패한 작업의 업로드 파일은 삭제 (재개할 일이 없으므로)
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberImportJobRunner {
+
+    private static final int WORKERS = 2;
+
+    private final MemberImportJobRepository jobRepo;
+    private final MemberImportErrorRepository errorRepo;
+    private final MemberExcelImporter importer;
+    private final TransactionTemplate tx;
+    private final DashboardSnapshotService dashboardSnapshot;
+
+    private final AtomicInteger threadSeq = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(WORKERS,
+            r -> new Thread(r, "member-import-" + threadSeq.incrementAndGet()));
+    private volatile boolean shuttingDown;
+
+    // ✅ 작업 실행 예약 (작업 저장 트랜잭션이 커밋된 뒤 호출)
+    public void enqueue(Long jobId) {
+        executor.submit(() -> run(jobId));
+    }
+
+    // ✅ 서버 기동 시 미완료 작업 재개
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        List<MemberImportJob> jobs = jobRepo.findByStatusInOrderByIdAsc(
+                List.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING));
+        for (MemberImportJob job : jobs) {
+            System.out.println("회원 일괄 등록 작업 재개: #" + job.getId() + " (행 " + job.getLastCommittedRow() + " 이후)");
+            enqueue(job.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 작업은 RUNNING 으로 남아 다음 기동 때 재개됨
+        shuttingDown = true;
+        executor.shutdownNow();
+    }
+
+    private void run(Long jobId) {
+        MemberImportJob job = tx.execute(s -> {
+            MemberImportJob j = jobRepo.findById(jobId).orElse(null);
+            if (j == null || j.isFinished()) return null;
+            j.start();
+            return j;
+        });
+        if (job == null) return;
+
+        Path file = Paths.get(job.getStoredPath());
+        int resumeAfter = job.getLastCommittedRow();
+        List<MemberExcelReader.Row> buffer = new ArrayList<>(MemberExcelImporter.CHUNK_SIZE);
+        AtomicInteger imported = new AtomicInteger();
+
+        try {
+            MemberExcelReader.read(file, row -> {
+                if (row.rowNumber() <= resumeAfter) return;
+                buffer.add(row);
+                if (buffer.size() >= MemberExcelImporter.CHUNK_SIZE) {
+                    imported.addAndGet(commitChunk(jobId, job.getTrainerId(), buffer));
+                    buffer.clear();
+                }
+            });
+            if (!buffer.isEmpty()) {
+                imported.addAndGet(commitChunk(jobId, job.getTrainerId(), buffer));
+            }
+            finish(jobId, null);
+            deleteQuietly(file);
+        } catch (IOException | RuntimeException e) {
+            if (shuttingDown) {
+                System.out.println("회원 일괄 등록 작업 중단: #" + jobId + " (다음 기동 시 재개)");
+                return;
+            }
+            System.err.println("회원 일괄 등록 작업 실패: #" + jobId + " - " + e.getMessage());
+            finish(jobId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            deleteQuietly(file);
+        } finally {
+            if (imported.get() > 0) {
+                dashboardSnapshot.invalidate();
+            }
+        }
+    }
+
+    // 청크 하나를 회원 / 오류 행 / 진행 상황과 함께 한 트랜잭션으로 커밋
+    private int commitChunk(Long jobId, Long trainerId, List<MemberExcelReader.Row> rows) {
+        if (shuttingDown) {
+            throw new IllegalStateException("서버 종료 중");
+        }
+        int lastRow = rows.get(rows.size() - 1).rowNumber();
+        Integer imported = tx.execute(s -> {
+            MemberExcelImporter.ChunkResult result = importer.importChunk(rows, trainerId);
+
+            int skipped = 0;
+            List<MemberImportError> errors = new ArrayList<>(result.issues().size());
+            for (MemberExcelImporter.RowIssue issue : result.issues()) {
+                if (issue.kind() == MemberImportError.Kind.SKIPPED) skipped++;
+                errors.add(MemberImportError.builder()
+                        .jobId(jobId)
+                        .rowNumber(issue.rowNumber())
+                        .phone(issue.phone())
+                        .kind(issue.kind())
+                        .reason(issue.reason())
+                        .build());
+            }
+            errorRepo.saveAll(errors);
+
+            MemberImportJob job = jobRepo.findById(jobId).orElseThrow();
+            job.recordChunk(lastRow, rows.size(), result.imported(), skipped, result.issues().size() - skipped);
+            return result.imported();
+        });
+        return imported != null ? imported : 0;
+    }
+
+    private void finish(Long jobId, String failure) {
+        tx.executeWithoutResult(s -> jobRepo.findById(jobId).ifPresent(job -> {
+            if (failure == null) {
+                job.complete();
+                System.out.println("=== Excel 업로드 완료 (#" + jobId + ") 성공: " + job.getImportedCount()
+                        + "명, 건너뜀: " + job.getSkippedCount() + "명, 실패: " + job.getFailedCount() + "명 ===");
+            } else {
+                job.fail(failure);
+            }
+        }));
+    }
+
+    static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("업로드 파일 삭제 실패: " + file);
+        }
+    }
+}
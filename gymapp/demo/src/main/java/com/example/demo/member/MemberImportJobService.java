@@ -0,0 +1,107 @@
+package com.example.demo.member;
+
+import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.AfterCommit;
+import com.example.demo.common.KeysetCursor;
+import com.example.demo.member.dto.MemberImportErrorResponse;
+import com.example.demo.member.dto.MemberImportJobResponse;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MemberImportJobService {
+
+    private static final int MAX_ERROR_PAGE_SIZE = 100;
+
+    // 처리 중 재시작에 대비해 업로드 파일은 작업이 끝날 때까지 디스크에 보관
+    private final Path importDir = Paths.get("uploads/imports");
+
+    private final MemberImportJobRepository jobRepo;
+    private final MemberImportErrorRepository errorRepo;
+    private final MemberImportJobRunner runner;
+
+    // ✅ 엑셀 업로드 → 작업 등록 후 즉시 반환 (처리는 백그라운드)
+    public MemberImportJobResponse submit(MultipartFile file, UserPrincipal user) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 엑셀 파일이 없습니다.");
+        }
+        String filename = file.getOriginalFilename();
+        if (filename == null || !filename.toLowerCase().endsWith(".xlsx")) {
+            throw new IllegalArgumentException("xlsx 파일만 업로드할 수 있습니다.");
+        }
+
+        Files.createDirectories(importDir);
+        Path stored = importDir.resolve(UUID.randomUUID() + ".xlsx");
+        // 작업 행이 커밋되지 않으면(저장 실패 / 롤백) 파일도 남기지 않음
+        AfterCommit.onRollback(() -> MemberImportJobRunner.deleteQuietly(stored));
+        file.transferTo(stored.toAbsolutePath());
+
+        MemberImportJob job = jobRepo.save(MemberImportJob.builder()
+                .trainerId(user.getId())
+                .requestedBy(user.getId())
+                .originalFilename(filename)
+                .storedPath(stored.toString())
+                .build());
+
+        Long jobId = job.getId();
+        AfterCommit.run(() -> runner.enqueue(jobId));
+        return toResponse(job);
+    }
+
+    // ✅ 작업 진행 상황 조회
+    @Transactional(readOnly = true)
+    public MemberImportJobResponse getJob(Long jobId, UserPrincipal user) {
+        return toResponse(findWithPermission(jobId, user));
+    }
+
+    // ✅ 등록되지 않은 행 목록 (행 번호 순)
+    @Transactional(readOnly = true)
+    public Page<MemberImportErrorResponse> getErrors(Long jobId, UserPrincipal user, Pageable pageable) {
+        findWithPermission(jobId, user);
+        Pageable page = PageRequest.of(pageable.getPageNumber(),
+                KeysetCursor.clampSize(pageable.getPageSize(), MAX_ERROR_PAGE_SIZE));
+        return errorRepo.findByJobIdOrderByRowNumberAsc(jobId, page)
+                .map(e -> new MemberImportErrorResponse(e.getRowNumber(), e.getPhone(), e.getKind(), e.getReason()));
+    }
+
+    private MemberImportJob findWithPermission(Long jobId, UserPrincipal user) {
+        MemberImportJob job = jobRepo.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("등록 작업을 찾을 수 없습니다: " + jobId));
+        if (!user.isAdmin() && !job.getRequestedBy().equals(user.getId())) {
+            throw new AccessDeniedException("이 등록 작업을 조회할 권한이 없습니다.");
+        }
+        return job;
+    }
+
+    private MemberImportJobResponse toResponse(MemberImportJob job) {
+        return new MemberImportJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getOriginalFilename(),
+                job.getLastCommittedRow(),
+                job.getProcessedRows(),
+                job.getImportedCount(),
+                job.getSkippedCount(),
+                job.getFailedCount(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.member;
+
+import com.example.demo.common.AfterCommit;
+import com.example.demo.common.BoundedLruCache;
+import com.example.demo.member.dto.MemberOwnership;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 → (담당 트레이너, 등급) 인메모리 인덱스
+ * - 운동/식단/PT/회원권 권한 체크가 매 요청 회원 엔티티를 읽지 않도록 함
+ * - 크기 제한 LRU, 없는 회원은 캐시하지 않음
+ * - 트레이너 배정/해제, 등급 변경, 회원 삭제 시 커밋 이후 evict
+ */
+@Component
+public class MemberOwnershipIndex {
+
+    private final MemberRepository memberRepo;
+    private final BoundedLruCache<Long, MemberOwnership> cache;
+
+    // evict 가 일어날 때마다 증가 → 조회 도중 무효화된 값은 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemberOwnershipIndex(MemberRepository memberRepo,
+                                @Value("${app.auth.ownership-cache-size:10000}") int maxSize) {
+        this.memberRepo = memberRepo;
+        this.cache = new BoundedLruCache<>(maxSize);
+    }
+
+    // ✅ 회원의 담당 트레이너 / 등급 조회 (회원이 없으면 empty)
+    public Optional<MemberOwnership> find(Long memberId) {
+        MemberOwnership cached = cache.get(memberId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long gen = generation.get();
+        Optional<MemberOwnership> loaded = memberRepo.findOwnership(memberId);
+        loaded.ifPresent(o -> {
+            if (generation.get() == gen) {
+                cache.put(memberId, o);
+            }
+        });
+        return loaded;
+    }
+
+    // ✅ 회원 한 명의 배정/등급이 바뀌었을 때
+    public void evict(Long memberId) {
+        generation.incrementAndGet();
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            cache.remove(memberId);
+        });
+    }
+
+    // ✅ 트레이너 삭제 등으로 여러 회원의 배정이 한꺼번에 바뀌었을 때
+    public void evictTrainees(Long trainerId) {
+        generation.incrementAndGet();
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            cache.removeIf(o -> o.isTrainedBy(trainerId));
+            cache.remove(trainerId);
+        });
+    }
+}
@@ -3,6 +3,10 @@ package com.example.demo.member;
 import com.example.demo.common.enums.Role;
 import com.example.demo.common.enums.UserStatus;
 import com.example.demo.common.enums.AccountStatus;
+import com.example.demo.member.dto.MemberOwnership;
+import com.example.demo.member.dto.MemberRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +14,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,18 +32,119 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByPhone(@Param("phone") String phone);
     
     Optional<Member> findByPhone(String phone);
+
+    // ✅ 주어진 전화번호 중 이미 가입된 번호 (일괄 등록 중복 체크용)
+    @Query("SELECT m.phone FROM Member m WHERE m.phone IN :phones")
+    List<String> findPhonesIn(@Param("phones") Collection<String> phones);
     
     // ✅ 통계용 카운트
     long countByStatus(UserStatus status);
     long countByCreatedAtAfter(LocalDateTime date);
+    long countByTrainerIsNotNull();
+
+    // ✅ 대시보드 집계용 (GROUP BY 한 번으로 분포 계산)
+    @Query("SELECT m.role, COUNT(m) FROM Member m GROUP BY m.role")
+    List<Object[]> countGroupByRole();
+
+    @Query("SELECT m.status, COUNT(m) FROM Member m GROUP BY m.status")
+    List<Object[]> countGroupByStatus();
+
+    @Query("SELECT YEAR(m.createdAt), MONTH(m.createdAt), COUNT(m) FROM Member m " +
+           "WHERE m.createdAt >= :from GROUP BY YEAR(m.createdAt), MONTH(m.createdAt)")
+    List<Object[]> countJoinedByMonthSince(@Param("from") LocalDateTime from);
+
+    // ✅ 트레이너별 담당 회원 수 (trainerId, trainerName, traineeCount)
+    @Query("SELECT t.id, t.name, COUNT(m) FROM Member t LEFT JOIN Member m ON m.trainer = t " +
+           "WHERE t.role = com.example.demo.common.enums.Role.TRAINER " +
+           "GROUP BY t.id, t.name ORDER BY t.id")
+    List<Object[]> countTraineesGroupByTrainer();
     
     // ✅ 트레이너 관련
     List<Member> findByTrainerId(Long trainerId);
     List<Member> findByTrainerIdAndAccountStatus(Long trainerId, AccountStatus status);
     
+    // ✅ 공지 발송 대상 id 만 조회 (엔티티 로딩 없음)
+    @Query("SELECT m.id FROM Member m WHERE m.trainer.id = :trainerId ORDER BY m.id")
+    List<Long> findIdsByTrainerId(@Param("trainerId") Long trainerId);
+
+    @Query("SELECT m.id FROM Member m WHERE m.role IN :roles ORDER BY m.id")
+    List<Long> findIdsByRoleIn(@Param("roles") Collection<Role> roles);
+
+    // ✅ 존재하는(삭제되지 않은) 회원 id 만 추리기
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // ✅ 권한 체크용 (담당 트레이너 FK + 등급만)
+    @Query("SELECT new com.example.demo.member.dto.MemberOwnership(m.trainer.id, m.role) FROM Member m WHERE m.id = :id")
+    Optional<MemberOwnership> findOwnership(@Param("id") Long id);
+
+    // ✅ 목록 조회용 DTO 프로젝션 (엔티티 대신 MemberResponse 컬럼만, trainer 는 FK 값만 읽음)
+    String MEMBER_ROW_SELECT = "SELECT new com.example.demo.member.dto.MemberRow(" +
+            "m.id, m.name, m.email, m.phone, m.role, m.status, m.gender, m.dateOfBirth, " +
+            "m.accountStatus, m.membershipType, m.registrationDate, m.startDate, " +
+            "m.createdAt, m.updatedAt, m.trainer.id) FROM Member m ";
+
+    @Query(value = MEMBER_ROW_SELECT, countQuery = "SELECT COUNT(m) FROM Member m")
+    Page<MemberRow> findMemberRows(Pageable pageable);
+
+    @Query(MEMBER_ROW_SELECT)
+    List<MemberRow> findAllMemberRows();
+
+    @Query(MEMBER_ROW_SELECT + "WHERE m.trainer.id = :trainerId")
+    List<MemberRow> findMemberRowsByTrainerId(@Param("trainerId") Long trainerId);
+
+    @Query(MEMBER_ROW_SELECT + "WHERE m.role = :role")
+    List<MemberRow> findMemberRowsByRole(@Param("role") Role role);
+
+    // ✅ id 순 키셋 청크 조회 (내보내기 등 대량 순회용)
+    @Query(MEMBER_ROW_SELECT + "WHERE m.id > :afterId ORDER BY m.id")
+    List<MemberRow> findMemberRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     // ✨ 역할별 조회 추가
     List<Member> findByRole(Role role);
     
+    // ✅ 회원별 운동/식단 로그 집계 (회원 1명당 쿼리 대신 GROUP BY 한 번)
+    // 컬럼 순서: member_id, name, workout_count, diet_count, total_logs, last_log_at
+    // 전체를 집계하므로 페이지마다 부르지 않음 → 정렬 페이지는 MemberLogStatsSnapshot, id 순 청크는 findMemberLogStatsAfter
+    String MEMBER_LOG_STATS_SQL = """
+        SELECT m.id AS member_id,
+               m.name AS name,
+               COALESCE(w.cnt, 0) AS workout_count,
+               COALESCE(d.cnt, 0) AS diet_count,
+               COALESCE(w.cnt, 0) + COALESCE(d.cnt, 0) AS total_logs,
+               GREATEST(COALESCE(w.last_at, d.last_at), COALESCE(d.last_at, w.last_at)) AS last_log_at
+        FROM members m
+        LEFT JOIN (SELECT member_id, COUNT(*) AS cnt, MAX(created_at) AS last_at
+                   FROM workout_logs GROUP BY member_id) w ON w.member_id = m.id
+        LEFT JOIN (SELECT member_id, COUNT(*) AS cnt, MAX(created_at) AS last_at
+                   FROM diet_log GROUP BY member_id) d ON d.member_id = m.id
+        WHERE m.deleted_at IS NULL
+    """;
+
+    @Query(value = "SELECT s.member_id, s.name, s.workout_count, s.diet_count, s.total_logs, s.last_log_at " +
+                   "FROM (" + MEMBER_LOG_STATS_SQL + ") s ORDER BY s.member_id",
+           nativeQuery = true)
+    List<Object[]> findMemberLogStats();
+
+    // 회원 id 순 로그 통계 청크 (내보내기용, 청크의 회원만 member_id 인덱스로 집계)
+    @Query(value = """
+        SELECT s.member_id, s.name, s.workout_count, s.diet_count,
+               s.workout_count + s.diet_count AS total_logs,
+               GREATEST(COALESCE(s.w_last, s.d_last), COALESCE(s.d_last, s.w_last)) AS last_log_at
+        FROM (SELECT m.id AS member_id,
+                     m.name AS name,
+                     (SELECT COUNT(*) FROM workout_logs w WHERE w.member_id = m.id) AS workout_count,
+                     (SELECT MAX(w.created_at) FROM workout_logs w WHERE w.member_id = m.id) AS w_last,
+                     (SELECT COUNT(*) FROM diet_log d WHERE d.member_id = m.id) AS diet_count,
+                     (SELECT MAX(d.created_at) FROM diet_log d WHERE d.member_id = m.id) AS d_last
+              FROM members m
+              WHERE m.deleted_at IS NULL AND m.id > :afterId
+              ORDER BY m.id
+              LIMIT :limit) s
+        ORDER BY s.member_id
+    """, nativeQuery = true)
+    List<Object[]> findMemberLogStatsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
     // ✅ 하드 삭제용 메서드 (Soft Delete 우회)
     @Modifying
     @Query(value = "DELETE FROM members WHERE id = :id", nativeQuery = true)
@@ -1,16 +1,17 @@
 package com.example.demo.member;
 
+import com.example.demo.admin.DashboardSnapshotService;
+import com.example.demo.auth.PasswordHasher;
 import com.example.demo.auth.UserPrincipal;
 import com.example.demo.common.enums.AccountStatus;
-import com.example.demo.common.enums.Gender;
 import com.example.demo.common.enums.Role;
 import com.example.demo.common.enums.UserStatus;
 import com.example.demo.member.dto.MemberCreateRequest;
 import com.example.demo.member.dto.MemberResponse;
+import com.example.demo.member.dto.MemberRow;
 import com.example.demo.member.dto.MemberUpdateRequest;
 import com.example.demo.member.dto.PasswordChangeRequest;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.example.demo.membership.MembershipRepository;
 import java.time.LocalDate;
 import java.time.Period;
 import org.springframework.security.core.Authentication;
@@ -23,16 +24,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.time.format.DateTimeFormatter;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -40,7 +33,11 @@ import java.util.Set;
 public class MemberService {
 
     private final MemberRepository repo;
+    private final MembershipRepository membershipRepo;
+    private final MemberOwnershipIndex ownershipIndex;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final DashboardSnapshotService dashboardSnapshot;
 
     // ✅ 회원 생성 (핵심 수정!)
     public MemberResponse create(MemberCreateRequest req) {
@@ -88,7 +85,7 @@ public class MemberService {
                 .name(req.name())
                 .phone(req.phone())
                 .email(email)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHasher.encode(password))
                 .gender(req.gender())
                 .dateOfBirth(req.dateOfBirth())
                 .membershipType(req.membershipType())
@@ -101,6 +98,7 @@ public class MemberService {
                 .build();
 
         Member saved = repo.save(m);
+        dashboardSnapshot.invalidate();
         return toRes(saved);
     }
 
@@ -121,7 +119,7 @@ public class MemberService {
 
     @Transactional(readOnly = true)
     public Page<MemberResponse> list(Pageable pageable) {
-        return repo.findAll(pageable).map(this::toRes);
+        return repo.findMemberRows(pageable).map(MemberRow::toResponse);
     }
 
     @Transactional(readOnly = true)
@@ -192,7 +190,11 @@ public MemberResponse getWithPermission(Long id, UserPrincipal user) {
             }
             m.setPhone(req.phone());
         }
-        if (req.role() != null) m.setRole(req.role());
+        if (req.role() != null) {
+            m.setRole(req.role());
+            dashboardSnapshot.invalidate();
+            ownershipIndex.evict(id);
+        }
         return toRes(m);
     }
 
@@ -210,7 +212,12 @@ public MemberResponse getWithPermission(Long id, UserPrincipal user) {
     }
 
     public void delete(Long id) {
-        repo.delete(find(id));
+        Member m = find(id);
+        // 회원권도 함께 소프트 삭제
+        membershipRepo.findByMemberId(id).ifPresent(membershipRepo::delete);
+        repo.delete(m);
+        dashboardSnapshot.invalidate();
+        ownershipIndex.evict(id);
     }
 
     public void deleteWithPermission(Long id, UserPrincipal user) {
@@ -243,6 +250,8 @@ public MemberResponse getWithPermission(Long id, UserPrincipal user) {
         }
         member.setTrainer(trainer);
         repo.save(member);
+        dashboardSnapshot.invalidate();
+        ownershipIndex.evict(memberId);
     }
 
     @Transactional(readOnly = true)
@@ -255,132 +264,12 @@ public MemberResponse getWithPermission(Long id, UserPrincipal user) {
 
     @Transactional(readOnly = true)
     public List<MemberResponse> getTrainees(Long trainerId) {
-        return repo.findByTrainerId(trainerId)
+        return repo.findMemberRowsByTrainerId(trainerId)
                 .stream()
-                .map(this::toRes)
+                .map(MemberRow::toResponse)
                 .toList();
     }
 
-    public void createMembersFromExcel(MultipartFile file, UserPrincipal user) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-            Member trainer = find(user.getId());
-            
-            Set<String> excelPhones = new HashSet<>();
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-                String phone = getCellValue(row.getCell(3));
-                if (phone != null && !phone.trim().isEmpty()) {
-                    excelPhones.add(phone);
-                }
-            }
-            
-            Set<String> existingPhones = new HashSet<>(
-                repo.findAll().stream()
-                    .map(Member::getPhone)
-                    .filter(phone -> phone != null && excelPhones.contains(phone))
-                    .toList()
-            );
-            
-            List<Member> newMembers = new ArrayList<>();
-            Set<String> processedPhones = new HashSet<>();
-            int successCount = 0;
-            int skipCount = 0;
-            
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
-                
-                try {
-                    String name = getCellValue(row.getCell(0));
-                    String genderStr = getCellValue(row.getCell(1));
-                    String ageStr = getCellValue(row.getCell(2));
-                    String phone = getCellValue(row.getCell(3));
-                    
-                    if (name == null || name.trim().isEmpty() || phone == null || phone.trim().isEmpty()) {
-                        skipCount++;
-                        continue;
-                    }
-                    
-                    if (processedPhones.contains(phone) || existingPhones.contains(phone)) {
-                        skipCount++;
-                        continue;
-                    }
-                    
-                    processedPhones.add(phone);
-                    
-                    Gender gender = parseGender(genderStr);
-                    LocalDate dateOfBirth = parseDateOfBirthFromExcel(ageStr);
-                    String password = phone.substring(phone.length() - 4);
-                    
-                    Member newMember = Member.builder()
-                            .name(name)
-                            .phone(phone)
-                            .email(phone + "@gymapp.com")
-                            .password(passwordEncoder.encode(password))
-                            .gender(gender)
-                            .dateOfBirth(dateOfBirth)
-                            .role(Role.OT)
-                            .status(UserStatus.ACTIVE)
-                            .accountStatus(AccountStatus.PENDING)
-                            .trainer(trainer)
-                            .registrationDate(LocalDate.now())
-                            .build();
-                    
-                    newMembers.add(newMember);
-                    successCount++;
-                } catch (Exception e) {
-                    System.err.println("행 " + (i+1) + " 처리 중 오류: " + e.getMessage());
-                    skipCount++;
-                }
-            }
-            
-            if (!newMembers.isEmpty()) {
-                repo.saveAll(newMembers);
-            }
-            
-            System.out.println("=== Excel 업로드 완료 ===");
-            System.out.println("성공: " + successCount + "명");
-            System.out.println("건너뜀: " + skipCount + "명");
-        }
-    }
-
-    private String getCellValue(Cell cell) {
-        if (cell == null) return "";
-        try {
-            switch (cell.getCellType()) {
-                case STRING: return cell.getStringCellValue().trim();
-                case NUMERIC:
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        return cell.getDateCellValue().toString();
-                    }
-                    double numericValue = cell.getNumericCellValue();
-                    if (numericValue == (long) numericValue) {
-                        return String.valueOf((long) numericValue);
-                    }
-                    return String.valueOf(numericValue);
-                case BOOLEAN: return String.valueOf(cell.getBooleanCellValue());
-                case BLANK: return "";
-                default: return "";
-            }
-        } catch (Exception e) {
-            System.err.println("셀 값 읽기 오류: " + e.getMessage());
-            return "";
-        }
-    }
-
-    private Gender parseGender(String genderStr) {
-        if (genderStr == null) return null;
-        String lower = genderStr.toLowerCase().trim();
-        if (lower.equals("남") || lower.equals("남성") || lower.equals("male") || lower.equals("m")) {
-            return Gender.MALE;
-        } else if (lower.equals("여") || lower.equals("여성") || lower.equals("female") || lower.equals("f")) {
-            return Gender.FEMALE;
-        }
-        return null;
-    }
-
     private Integer calculateAge(LocalDate birthDate) {
         if (birthDate != null) {
             return Period.between(birthDate, LocalDate.now()).getYears();
@@ -388,28 +277,10 @@ public MemberResponse getWithPermission(Long id, UserPrincipal user) {
         return null;
     }
     
-    private LocalDate parseDateOfBirthFromExcel(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return null;
-        }
-        Pattern pattern = Pattern.compile("\\((.*?)\\)");
-        Matcher matcher = pattern.matcher(text);
-        if (matcher.find()) {
-            String dateStr = matcher.group(1).trim();
-            try {
-                return LocalDate.parse(dateStr.replace(". ", "-").replace(".", "-"), DateTimeFormatter.ofPattern("yyyy-M-d"));
-            } catch (Exception e) {
-                System.err.println("날짜 파싱 실패: " + dateStr);
-                return null;
-            }
-        }
-        return null;
-    }
-
     @Transactional(readOnly = true)
 public List<MemberResponse> getTrainerList() {
-    return repo.findByRole(Role.TRAINER).stream()
-            .map(this::toRes)
+    return repo.findMemberRowsByRole(Role.TRAINER).stream()
+            .map(MemberRow::toResponse)
             .toList();
 }
 }
\ No newline at end of file
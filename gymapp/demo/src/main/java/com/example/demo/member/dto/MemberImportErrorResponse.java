@@ -0,0 +1,10 @@
+package com.example.demo.member.dto;
+
+import com.example.demo.member.MemberImportError;
+
+public record MemberImportErrorResponse(
+        int rowNumber,
+        String phone,
+        MemberImportError.Kind kind,
+        String reason
+) {}
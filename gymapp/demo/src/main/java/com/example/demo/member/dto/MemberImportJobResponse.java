@@ -0,0 +1,20 @@
+package com.example.demo.member.dto;
+
+import com.example.demo.member.ImportJobStatus;
+
+import java.time.LocalDateTime;
+
+public record MemberImportJobResponse(
+        Long id,
+        ImportJobStatus status,
+        String originalFilename,
+        int lastCommittedRow,   // 커밋된 마지막 엑셀 행 번호
+        int processedRows,      // 처리한 행 수 (등록 + 건너뜀 + 실패)
+        int imported,           // 등록된 회원 수
+        int skipped,            // 중복으로 건너뛴 행 수
+        int failed,             // 필수값 누락 / 형식 오류 행 수
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {}
@@ -0,0 +1,14 @@
+package com.example.demo.member.dto;
+
+import com.example.demo.common.enums.Role;
+
+// 권한 체크에 필요한 회원 정보 (담당 트레이너 id, 등급)
+public record MemberOwnership(
+        Long trainerId,
+        Role role
+) {
+
+    public boolean isTrainedBy(Long trainerId) {
+        return this.trainerId != null && this.trainerId.equals(trainerId);
+    }
+}
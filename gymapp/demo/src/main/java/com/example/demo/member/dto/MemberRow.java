@@ -0,0 +1,44 @@
+package com.example.demo.member.dto;
+
+import com.example.demo.common.enums.AccountStatus;
+import com.example.demo.common.enums.Gender;
+import com.example.demo.common.enums.Role;
+import com.example.demo.common.enums.UserStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+
+/**
+ * 회원 목록 조회용 프로젝션 (JPQL 생성자 표현식)
+ * - MemberResponse 에 필요한 컬럼만 읽고, 담당 트레이너는 trainer_id FK 값만 사용
+ * - 엔티티가 아니므로 영속성 컨텍스트 / 변경 감지 / 연관관계 로딩이 없음
+ */
+public record MemberRow(
+        Long id,
+        String name,
+        String email,
+        String phone,
+        Role role,
+        UserStatus status,
+        Gender gender,
+        LocalDate dateOfBirth,
+        AccountStatus accountStatus,
+        String membershipType,
+        LocalDate registrationDate,
+        LocalDate startDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long trainerId
+) {
+
+    public MemberResponse toResponse() {
+        Integer age = dateOfBirth != null ? Period.between(dateOfBirth, LocalDate.now()).getYears() : null;
+        return new MemberResponse(
+                id, name, email, phone, role, status,
+                gender, age, accountStatus, membershipType,
+                registrationDate, startDate, createdAt, updatedAt,
+                trainerId
+        );
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.demo.membership;
 
+import com.example.demo.admin.DashboardSnapshotService;
 import com.example.demo.auth.UserPrincipal;
 import com.example.demo.common.enums.Role;
 import com.example.demo.member.Member;
+import com.example.demo.member.MemberOwnershipIndex;
 import com.example.demo.member.MemberRepository;
+import com.example.demo.member.dto.MemberOwnership;
 import com.example.demo.membership.dto.*;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -21,7 +24,9 @@ public class MembershipService {
 
     private final MembershipRepository membershipRepository;
     private final MemberRepository memberRepository;
+    private final MemberOwnershipIndex ownershipIndex;
     private final MembershipLogRepository membershipLogRepository;
+    private final DashboardSnapshotService dashboardSnapshot;
 
     // ✅ 멤버십 조회 (권한 체크 포함)
     @Transactional(readOnly = true)
@@ -67,6 +72,8 @@ public class MembershipService {
         // OT -> PT 자동 승급
         if (m.hasAnyPT() && member.getRole() == Role.OT) {
             member.setRole(Role.PT);
+            dashboardSnapshot.invalidate();
+            ownershipIndex.evict(memberId);
         }
         return toRes(m);
     }
@@ -85,6 +92,8 @@ public class MembershipService {
         // PT 잔여가 0이 되면 PT -> OT 자동 전환
         if (!m.hasAnyPT() && member.getRole() == Role.PT) {
             member.setRole(Role.OT);
+            dashboardSnapshot.invalidate();
+            ownershipIndex.evict(memberId);
         }
         return toRes(m);
     }
@@ -163,8 +172,7 @@ public class MembershipService {
 
         // 트레이너는 담당 회원만 조회 가능
         if (user.isTrainer()) {
-            Member member = findMember(memberId);
-            if (member.getTrainer() != null && member.getTrainer().getId().equals(user.getId())) {
+            if (findOwnership(memberId).isTrainedBy(user.getId())) {
                 return;
             }
         }
@@ -181,8 +189,7 @@ public class MembershipService {
 
         // 트레이너는 담당 회원만 관리 가능
         if (user.isTrainer()) {
-            Member member = findMember(memberId);
-            if (member.getTrainer() != null && member.getTrainer().getId().equals(user.getId())) {
+            if (findOwnership(memberId).isTrainedBy(user.getId())) {
                 return;
             }
         }
@@ -194,6 +201,11 @@ public class MembershipService {
     // 🔧 헬퍼 메서드
     // ========================
 
+    private MemberOwnership findOwnership(Long memberId) {
+        return ownershipIndex.find(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("회원이 없습니다: " + memberId));
+    }
+
     private Member findMember(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("회원이 없습니다: " + memberId));
@@ -0,0 +1,8 @@
+package com.example.demo.notification;
+
+public enum BroadcastStatus {
+    QUEUED,     // 대기
+    RUNNING,    // 발송 중
+    COMPLETED,  // 완료 (일부 청크 실패 시 failed 에 집계)
+    FAILED      // 중단
+}
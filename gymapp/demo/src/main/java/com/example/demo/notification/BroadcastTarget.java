@@ -0,0 +1,6 @@
+package com.example.demo.notification;
+
+public enum BroadcastTarget {
+    ALL,       // 관리자 제외 전체 (회원 + 트레이너)
+    TRAINEES   // 특정 트레이너의 담당 회원
+}
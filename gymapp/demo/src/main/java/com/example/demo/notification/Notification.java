@@ -12,11 +12,16 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "notification")
+@Table(name = "notification",
+        indexes = {
+            // 받은 알림함 키셋 페이지 (안 읽은 알림 / 전체 알림)
+            @Index(name = "idx_notification_member_read_created", columnList = "member_id, is_read, created_at"),
+            @Index(name = "idx_notification_member_created", columnList = "member_id, created_at")
+        })
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,7 +40,9 @@ public class Notification {
 
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now(); // write-behind 저장은 이벤트 발생 시각 유지
+        }
         this.isRead = false;
     }
 }
@@ -0,0 +1,155 @@
+package com.example.demo.notification;
+
+import com.example.demo.common.BoundedLruCache;
+import com.example.demo.member.MemberRepository;
+import com.example.demo.notification.dto.BroadcastResponse;
+import com.example.demo.notification.dto.NotificationResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공지 일괄 발송기
+ * - 수신자 id 목록을 받아 요청 스레드와 분리된 백그라운드 스레드에서 저장
+ * - CHUNK_SIZE 명마다 별도 트랜잭션으로 saveAll (JDBC 배치 INSERT) → 청크 하나가 실패해도 나머지는 계속
+ * - 청크가 커밋될 때마다 진행 상황 / 안 읽은 알림 수 / SSE 전송 갱신
+ * - 진행 상황은 최근 작업만 메모리에 보관 (재시작 시 사라짐)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationBroadcaster {
+
+    static final int CHUNK_SIZE = 1000;
+    private static final int MAX_TRACKED_JOBS = 200;
+
+    private final NotificationRepository notificationRepo;
+    private final MemberRepository memberRepo;
+    private final TransactionTemplate tx;
+    private final UnreadCounter unreadCounter;
+    private final NotificationStreams streams;
+
+    private final AtomicLong jobSeq = new AtomicLong();
+    private final BoundedLruCache<Long, Job> jobs = new BoundedLruCache<>(MAX_TRACKED_JOBS);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "notification-broadcast");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // ✅ 발송 예약 (발송 순서대로 한 작업씩 처리)
+    public BroadcastResponse submit(BroadcastTarget target, Long trainerId, Long requesterId,
+                                    NotificationType type, String message, List<Long> recipientIds) {
+        Job job = new Job(jobSeq.incrementAndGet(), target, trainerId, requesterId, type, message, recipientIds);
+        jobs.put(job.id, job);
+        executor.submit(() -> run(job));
+        return job.toResponse();
+    }
+
+    // ✅ 진행 상황 (requesterId 가 null 이면 관리자 조회)
+    public BroadcastResponse find(Long jobId, Long requesterId) {
+        Job job = jobs.get(jobId);
+        if (job == null || (requesterId != null && !requesterId.equals(job.requesterId))) {
+            return null;
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        job.status = BroadcastStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        try {
+            LocalDateTime createdAt = LocalDateTime.now();
+            List<Long> ids = job.recipientIds;
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                if (Thread.currentThread().isInterrupted()) {
+                    job.status = BroadcastStatus.FAILED;
+                    return;
+                }
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+                try {
+                    List<NotificationResponse> saved = tx.execute(s -> insert(chunk, job, createdAt));
+                    if (saved != null) {
+                        saved.forEach(n -> unreadCounter.added(n.memberId(), 1));
+                        streams.push(saved);
+                        job.sent.addAndGet(saved.size());
+                    }
+                } catch (RuntimeException ex) {
+                    job.failed.addAndGet(chunk.size());
+                    System.err.println("공지 발송 청크 실패 (#" + job.id + ", " + chunk.size() + "명): " + ex.getMessage());
+                }
+            }
+            job.status = BroadcastStatus.COMPLETED;
+        } catch (RuntimeException ex) {
+            job.status = BroadcastStatus.FAILED;
+            System.err.println("공지 발송 실패 (#" + job.id + "): " + ex.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private List<NotificationResponse> insert(List<Long> memberIds, Job job, LocalDateTime createdAt) {
+        List<Notification> rows = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            rows.add(Notification.builder()
+                    .member(memberRepo.getReferenceById(memberId))
+                    .type(job.type)
+                    .message(job.message)
+                    .createdAt(createdAt)
+                    .build());
+        }
+        notificationRepo.saveAll(rows);
+
+        List<NotificationResponse> saved = new ArrayList<>(rows.size());
+        for (Notification n : rows) {
+            saved.add(new NotificationResponse(
+                    n.getId(), n.getMember().getId(), n.getType(), n.getMessage(), false, n.getCreatedAt()));
+        }
+        return saved;
+    }
+
+    private static final class Job {
+        final Long id;
+        final BroadcastTarget target;
+        final Long trainerId;
+        final Long requesterId;
+        final NotificationType type;
+        final String message;
+        final List<Long> recipientIds;
+        final LocalDateTime createdAt = LocalDateTime.now();
+        final AtomicInteger sent = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        volatile BroadcastStatus status = BroadcastStatus.QUEUED;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+
+        Job(Long id, BroadcastTarget target, Long trainerId, Long requesterId,
+            NotificationType type, String message, List<Long> recipientIds) {
+            this.id = id;
+            this.target = target;
+            this.trainerId = trainerId;
+            this.requesterId = requesterId;
+            this.type = type;
+            this.message = message;
+            this.recipientIds = List.copyOf(recipientIds);
+        }
+
+        BroadcastResponse toResponse() {
+            return new BroadcastResponse(id, status, target, trainerId, recipientIds.size(),
+                    sent.get(), failed.get(), createdAt, startedAt, finishedAt);
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package com.example.demo.notification;
 
+import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.CursorPage;
+import com.example.demo.notification.dto.BroadcastRequest;
+import com.example.demo.notification.dto.BroadcastResponse;
 import com.example.demo.notification.dto.NotificationResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -13,6 +23,39 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreams streams;
+
+    // 🔔 실시간 알림 스트림 (SSE, 로그인한 본인 알림만)
+    //    재연결 시 Last-Event-ID 헤더로 놓친 알림을 이어 받음
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipal user,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long after = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                after = Long.valueOf(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 Last-Event-ID 입니다: " + lastEventId);
+            }
+        }
+        return streams.subscribe(user.getId(), after);
+    }
+
+    // 📢 공지 일괄 발송 (202 + 진행 상황, 발송은 백그라운드에서 진행)
+    @PostMapping("/broadcast")
+    @PreAuthorize("hasAnyRole('TRAINER', 'ADMIN')")
+    public ResponseEntity<BroadcastResponse> broadcast(@RequestBody BroadcastRequest req,
+                                                       @AuthenticationPrincipal UserPrincipal user) {
+        return ResponseEntity.accepted().body(notificationService.broadcast(req, user));
+    }
+
+    // 📢 공지 발송 진행 상황
+    @GetMapping("/broadcast/{jobId}")
+    @PreAuthorize("hasAnyRole('TRAINER', 'ADMIN')")
+    public BroadcastResponse broadcastStatus(@PathVariable Long jobId,
+                                             @AuthenticationPrincipal UserPrincipal user) {
+        return notificationService.getBroadcast(jobId, user);
+    }
 
     // 🔔 전체 알림 조회
     @GetMapping("/{memberId}")
@@ -28,11 +71,29 @@ public class NotificationController {
         return notificationService.getUnread(memberId);
     }
 
-    // 🔔 읽지 않은 알림 개수
+    // 🔔 받은 알림함 (커서 페이지, 최신순 / unreadOnly=true 면 안 읽은 알림만)
+    @GetMapping("/{memberId}/page")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public CursorPage<NotificationResponse> getPage(
+            @PathVariable Long memberId,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return notificationService.getPage(memberId, unreadOnly, cursor, size);
+    }
+
+    // 🔔 읽지 않은 알림 개수 (DB 조회 없음, 변경 없으면 304)
     @GetMapping("/{memberId}/unread-count")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    public long countUnread(@PathVariable Long memberId) {
-        return notificationService.countUnread(memberId);
+    public ResponseEntity<Long> countUnread(@PathVariable Long memberId, WebRequest request) {
+        UnreadCounter.Snapshot unread = notificationService.countUnread(memberId);
+        if (request.checkNotModified(unread.etag())) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .eTag(unread.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(unread.count());
     }
 
     // 🔔 모든 알림 읽음 처리
@@ -0,0 +1,21 @@
+package com.example.demo.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 생성 이벤트 (트랜잭션 커밋 후 NotificationWriter 가 모아서 저장)
+ */
+public record NotificationEvent(
+        Long memberId,
+        NotificationType type,
+        String message,
+        LocalDateTime createdAt
+) {
+
+    // 같은 회원에게 같은 내용이 연달아 오면 하나로 합치기 위한 키
+    record Key(Long memberId, NotificationType type, String message) {}
+
+    Key key() {
+        return new Key(memberId, type, message);
+    }
+}
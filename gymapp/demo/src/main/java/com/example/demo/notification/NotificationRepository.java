@@ -1,6 +1,12 @@
 package com.example.demo.notification;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 import java.util.List;
 
@@ -12,6 +18,44 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 특정 회원의 안 읽은 알림 조회 (최신순)
     List<Notification> findByMemberIdAndIsReadFalseOrderByCreatedAtDesc(Long memberId);
 
+    // 받은 알림함 키셋 페이지 (최신순, cursorAt/cursorId 가 null 이면 첫 페이지)
+    @Query("SELECT n FROM Notification n WHERE n.member.id = :memberId " +
+           "AND (:cursorId IS NULL OR n.createdAt < :cursorAt " +
+           "     OR (n.createdAt = :cursorAt AND n.id < :cursorId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPage(@Param("memberId") Long memberId,
+                                @Param("cursorAt") LocalDateTime cursorAt,
+                                @Param("cursorId") Long cursorId,
+                                Pageable pageable);
+
+    // 안 읽은 알림 키셋 페이지 (최신순)
+    @Query("SELECT n FROM Notification n WHERE n.member.id = :memberId AND n.isRead = false " +
+           "AND (:cursorId IS NULL OR n.createdAt < :cursorAt " +
+           "     OR (n.createdAt = :cursorAt AND n.id < :cursorId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadPage(@Param("memberId") Long memberId,
+                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    // 모든 알림 읽음 처리 (UPDATE 한 번)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.member.id = :memberId AND n.isRead = false")
+    int markAllAsRead(@Param("memberId") Long memberId);
+
+    // 오래된 읽은 알림 삭제 (배치 단위, PK 순서로 오래된 행부터)
+    @Modifying
+    @Query(value = "DELETE FROM notification WHERE is_read = 1 AND created_at < :cutoff ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    int deleteReadBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
     // 안 읽은 알림 개수
     long countByMemberIdAndIsReadFalse(Long memberId);
+
+    // SSE 재연결 시 놓친 알림 (Last-Event-ID 이후)
+    List<Notification> findByMemberIdAndIdGreaterThanOrderByIdAsc(Long memberId, Long id, Pageable pageable);
+
+    // 회원별 안 읽은 알림 개수 (memberId, count) - UnreadCounter 정합성 맞춤용
+    @Query("SELECT n.member.id, COUNT(n) FROM Notification n WHERE n.isRead = false GROUP BY n.member.id")
+    List<Object[]> countUnreadGroupByMember();
 }
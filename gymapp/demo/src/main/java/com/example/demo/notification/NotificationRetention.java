@@ -0,0 +1,46 @@
+package com.example.demo.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 읽은 알림 정리
+ * - retention-days 가 지난 읽은 알림을 batch-size 건씩 나눠 삭제 (배치마다 별도 트랜잭션)
+ * - 한 번에 지우지 않으므로 잠금 / 언두 로그가 짧게 유지되고 알림 저장과 오래 겹치지 않음
+ * - 안 읽은 알림은 지우지 않으므로 UnreadCounter 에는 영향 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRetention {
+
+    private final NotificationRepository notificationRepo;
+    private final TransactionTemplate tx;
+
+    @Value("${app.notification.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.notification.retention-batch-size:1000}")
+    private int batchSize;
+
+    // ✅ 매일 새벽 정리 (기본 03:30)
+    @Scheduled(cron = "${app.notification.retention-cron:0 30 3 * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        int deleted;
+        do {
+            Integer n = tx.execute(status -> notificationRepo.deleteReadBefore(cutoff, batchSize));
+            deleted = n != null ? n : 0;
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            System.out.println("오래된 알림 정리: " + total + "건 삭제 (기준 " + cutoff + ")");
+        }
+    }
+}
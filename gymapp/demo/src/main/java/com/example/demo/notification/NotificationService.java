@@ -1,13 +1,23 @@
 package com.example.demo.notification;
 
-import com.example.demo.member.Member;
+import com.example.demo.common.CursorPage;
+import com.example.demo.common.KeysetCursor;
+import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.enums.Role;
 import com.example.demo.member.MemberRepository;
+import com.example.demo.notification.dto.BroadcastRequest;
+import com.example.demo.notification.dto.BroadcastResponse;
 import com.example.demo.notification.dto.NotificationResponse;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -15,22 +25,54 @@ import java.util.List;
 @Transactional
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepo;
+    private final ApplicationEventPublisher events;
+    private final UnreadCounter unreadCounter;
     private final MemberRepository memberRepo;
+    private final NotificationBroadcaster broadcaster;
+
+    // 🔔 알림 발행 (호출 트랜잭션이 커밋된 뒤 NotificationWriter 가 모아서 저장)
+    public void publish(Long memberId, NotificationType type, String message) {
+        events.publishEvent(new NotificationEvent(memberId, type, message, LocalDateTime.now()));
+    }
 
-    // 🔔 알림 생성
-    public NotificationResponse create(Long memberId, NotificationType type, String message) {
-        Member member = memberRepo.findById(memberId)
-                .orElseThrow(() -> new EntityNotFoundException("회원이 없습니다: " + memberId));
+    // 📢 공지 일괄 발송 (수신자 id 를 한 번에 조회한 뒤 백그라운드에서 배치 저장)
+    //    관리자: 전체 / 모든 트레이너의 담당 회원, 트레이너: 본인 담당 회원만
+    @Transactional(readOnly = true)
+    public BroadcastResponse broadcast(BroadcastRequest req, UserPrincipal user) {
+        if (req.message() == null || req.message().isBlank()) {
+            throw new IllegalArgumentException("공지 내용을 입력해주세요.");
+        }
+        BroadcastTarget target = req.target() == null ? BroadcastTarget.TRAINEES : req.target();
+        NotificationType type = req.type() == null ? NotificationType.ADMIN_NOTICE : req.type();
 
-        Notification notification = Notification.builder()
-                .member(member)
-                .type(type)
-                .message(message)
-                .build();
+        Long trainerId = null;
+        List<Long> recipients;
+        if (target == BroadcastTarget.ALL) {
+            if (!user.isAdmin()) {
+                throw new AccessDeniedException("전체 공지는 관리자만 보낼 수 있습니다.");
+            }
+            recipients = memberRepo.findIdsByRoleIn(List.of(Role.OT, Role.PT, Role.TRAINER));
+        } else {
+            trainerId = req.trainerId() != null ? req.trainerId() : user.getId();
+            if (!user.isAdmin() && !(user.isTrainer() && user.getId().equals(trainerId))) {
+                throw new AccessDeniedException("본인 담당 회원에게만 공지를 보낼 수 있습니다.");
+            }
+            recipients = memberRepo.findIdsByTrainerId(trainerId);
+        }
+        return broadcaster.submit(target, trainerId, user.getId(), type, req.message(), recipients);
+    }
 
-        Notification saved = notificationRepo.save(notification);
-        return toResponse(saved);
+    // 📢 공지 발송 진행 상황 (관리자 또는 발송한 본인)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BroadcastResponse getBroadcast(Long jobId, UserPrincipal user) {
+        BroadcastResponse res = broadcaster.find(jobId, user.isAdmin() ? null : user.getId());
+        if (res == null) {
+            throw new EntityNotFoundException("공지 발송 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return res;
     }
 
     // 🔔 특정 회원의 전체 알림 조회
@@ -49,18 +91,33 @@ public class NotificationService {
                 .toList();
     }
 
-    // 🔔 읽지 않은 알림 개수
+    // 🔔 받은 알림함 (키셋 페이지, unreadOnly 면 안 읽은 알림만)
     @Transactional(readOnly = true)
-    public long countUnread(Long memberId) {
-        return notificationRepo.countByMemberIdAndIsReadFalse(memberId);
+    public CursorPage<NotificationResponse> getPage(Long memberId, boolean unreadOnly, String cursor, int size) {
+        int limit = KeysetCursor.clampSize(size, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decodeOrNull(cursor);
+        LocalDateTime afterAt = after != null ? after.dateTimeKey() : null;
+        Long afterId = after != null ? after.id() : null;
+        PageRequest page = PageRequest.of(0, limit + 1);
+
+        List<Notification> rows = unreadOnly
+                ? notificationRepo.findUnreadPage(memberId, afterAt, afterId, page)
+                : notificationRepo.findPage(memberId, afterAt, afterId, page);
+        return CursorPage.of(rows.stream().map(this::toResponse).toList(), limit,
+                n -> KeysetCursor.of(n.createdAt(), n.id()));
+    }
+
+    // 🔔 읽지 않은 알림 개수 (인메모리 카운터, ETag 포함 / 트랜잭션 없이 DB 커넥션도 잡지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UnreadCounter.Snapshot countUnread(Long memberId) {
+        return unreadCounter.get(memberId);
     }
 
     // 🔔 모든 알림 읽음 처리
     public void markAllAsRead(Long memberId) {
-        List<Notification> notifications =
-                notificationRepo.findByMemberIdAndIsReadFalseOrderByCreatedAtDesc(memberId);
-        notifications.forEach(n -> n.setRead(true));
-        notificationRepo.saveAll(notifications);
+        if (notificationRepo.markAllAsRead(memberId) > 0) {
+            unreadCounter.refresh(memberId);
+        }
     }
 
     // 🔄 Entity → DTO 변환 메서드
@@ -0,0 +1,256 @@
+package com.example.demo.notification;
+
+import com.example.demo.notification.dto.NotificationResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원별 알림 SSE 스트림
+ * - SseEmitter(서블릿 비동기) 사용 → 연결이 대기하는 동안 Tomcat 작업 스레드를 잡지 않음
+ * - NotificationWriter 가 저장을 마친 알림을 해당 회원의 연결로 전송 (이벤트 id = 알림 id)
+ * - 연결마다 대기열을 두고 작은 전송 풀에서 비움 → 느린 클라이언트가 다른 연결 전송을 막지 않음
+ *   (대기열이 max-pending 을 넘으면 연결을 닫음 → 클라이언트가 Last-Event-ID 로 재연결)
+ * - 재연결 시 Last-Event-ID 이후 알림을 먼저 보내 놓친 알림을 채움
+ *   (전송 풀에서 짧은 읽기 트랜잭션으로 조회 → 요청 스레드의 OSIV 커넥션을 쓰지 않음,
+ *    재전송 중 들어온 알림은 재전송 뒤에 보내고 이미 보낸 id 는 건너뜀)
+ * - 회원당 연결은 max-per-member 개까지 (넘으면 가장 오래된 연결을 닫음)
+ * - heartbeat-ms 마다 주석 이벤트로 연결 유지 / 끊긴 연결 정리
+ */
+@Component
+public class NotificationStreams {
+
+    private static final int REPLAY_LIMIT = 100;
+    private static final Object PING = new Object();
+
+    private final NotificationRepository notificationRepo;
+    private final TransactionTemplate readTx;
+    private final long timeoutMs;
+    private final int maxPerMember;
+    private final int maxPending;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+
+    public NotificationStreams(NotificationRepository notificationRepo,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.notification.sse-timeout-ms:1800000}") long timeoutMs,
+                               @Value("${app.notification.sse-max-per-member:5}") int maxPerMember,
+                               @Value("${app.notification.sse-max-pending:256}") int maxPending,
+                               @Value("${app.notification.sse-send-threads:4}") int sendThreads,
+                               @Value("${app.notification.sse-send-queue:10000}") int sendQueue) {
+        this.notificationRepo = notificationRepo;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.timeoutMs = timeoutMs;
+        this.maxPerMember = Math.max(1, maxPerMember);
+        this.maxPending = Math.max(1, maxPending);
+
+        // 연결마다 전송 작업은 최대 1개만 대기하므로 대기열 크기 ≈ 동시 연결 수 상한
+        AtomicInteger seq = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(
+                sendThreads, sendThreads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(sendQueue),
+                r -> {
+                    Thread t = new Thread(r, "notification-sse-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.sender.allowCoreThreadTimeOut(true);
+    }
+
+    // ✅ 구독 (lastEventId 가 있으면 그 이후 알림부터 재전송)
+    public SseEmitter subscribe(Long memberId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection conn = new Connection(memberId, emitter, lastEventId);
+
+        Runnable remove = conn::detach;
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(memberId, (id, current) -> {
+            List<Connection> list = current != null ? current : new CopyOnWriteArrayList<>();
+            list.add(conn);
+            while (list.size() > maxPerMember) {
+                evicted.add(list.remove(0));
+            }
+            return list;
+        });
+        evicted.forEach(Connection::close);
+
+        // 첫 전송 작업에서 connected + 재전송 → 그 사이 push 된 알림은 대기열에서 기다림
+        conn.schedule();
+        return emitter;
+    }
+
+    // ✅ 저장된 알림을 연결된 회원의 대기열에 넣음 (호출 스레드는 막히지 않음)
+    public void push(List<NotificationResponse> notifications) {
+        if (connections.isEmpty() || notifications.isEmpty()) return;
+        for (NotificationResponse n : notifications) {
+            List<Connection> list = connections.get(n.memberId());
+            if (list == null) continue;
+            for (Connection conn : list) {
+                conn.enqueue(n);
+            }
+        }
+    }
+
+    // ✅ 연결 유지용 heartbeat (프록시 유휴 타임아웃 방지 + 끊긴 연결 정리)
+    @Scheduled(fixedDelayString = "${app.notification.sse-heartbeat-ms:25000}")
+    public void heartbeat() {
+        connections.values().forEach(list -> list.forEach(conn -> conn.enqueue(PING)));
+    }
+
+    public int connectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        connections.values().forEach(list -> list.forEach(Connection::close));
+        connections.clear();
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(NotificationResponse n) {
+        return SseEmitter.event()
+                .id(String.valueOf(n.id()))
+                .name("notification")
+                .data(n);
+    }
+
+    /**
+     * SSE 연결 하나
+     * - 대기열(pending)은 여러 스레드가 넣고, 비우는 작업은 scheduled 플래그로 한 번에 하나만 실행
+     * - replayedIds 는 전송 작업 안에서만 다룸
+     */
+    private final class Connection implements Runnable {
+
+        private final Long memberId;
+        private final SseEmitter emitter;
+        private final Long replayAfter;
+        private final Queue<Object> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Set<Long> replayedIds = new HashSet<>();
+        private boolean started;
+        private volatile boolean closed;
+
+        private Connection(Long memberId, SseEmitter emitter, Long replayAfter) {
+            this.memberId = memberId;
+            this.emitter = emitter;
+            this.replayAfter = replayAfter;
+        }
+
+        void enqueue(Object item) {
+            if (closed) return;
+            if (pendingCount.incrementAndGet() > maxPending) {
+                System.err.println("알림 SSE 대기열 초과로 연결 종료 (회원 " + memberId + ")");
+                close();
+                return;
+            }
+            pending.add(item);
+            schedule();
+        }
+
+        void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) return;
+            try {
+                sender.execute(this);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                close();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!started) {
+                    started = true;
+                    emitter.send(SseEmitter.event().comment("connected"));
+                    replay();
+                }
+                Object item;
+                while (!closed && (item = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    if (item == PING) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    } else if (item instanceof NotificationResponse n && !replayedIds.contains(n.id())) {
+                        emitter.send(toEvent(n));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } catch (RuntimeException e) {
+                System.err.println("알림 SSE 전송 실패 (회원 " + memberId + "): " + e.getMessage());
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            // 비우는 동안 새로 들어온 항목이 있으면 다시 예약
+            if (!pending.isEmpty()) schedule();
+        }
+
+        // 조회는 짧은 트랜잭션 안에서 끝내고, 전송은 트랜잭션 밖에서
+        private void replay() throws IOException {
+            if (replayAfter == null) return;
+            List<NotificationResponse> missed = readTx.execute(s ->
+                    notificationRepo.findByMemberIdAndIdGreaterThanOrderByIdAsc(
+                                    memberId, replayAfter, PageRequest.of(0, REPLAY_LIMIT))
+                            .stream()
+                            .map(n -> new NotificationResponse(
+                                    n.getId(), memberId, n.getType(), n.getMessage(), n.isRead(), n.getCreatedAt()))
+                            .toList());
+            if (missed == null) return;
+            for (NotificationResponse n : missed) {
+                replayedIds.add(n.id());
+                emitter.send(toEvent(n));
+            }
+        }
+
+        // 목록에서만 제거 (emitter 콜백에서 호출)
+        void detach() {
+            closed = true;
+            connections.computeIfPresent(memberId, (id, list) -> {
+                list.remove(this);
+                return list.isEmpty() ? null : list;
+            });
+        }
+
+        void close() {
+            detach();
+            pending.clear();
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 끝난 연결
+            }
+        }
+    }
+}
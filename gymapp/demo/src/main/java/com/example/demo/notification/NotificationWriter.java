@@ -0,0 +1,169 @@
+package com.example.demo.notification;
+
+import com.example.demo.member.MemberRepository;
+import com.example.demo.notification.dto.NotificationResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 write-behind 저장기
+ * - 커밋된 트랜잭션의 NotificationEvent 를 큐에 모았다가 백그라운드 스레드에서 한 번에 저장 (JDBC 배치 INSERT)
+ * - coalesce-ms 동안 같은 회원 / 같은 종류 / 같은 메시지는 하나로 합침 (예: 연속 수정 10번 → 알림 1개)
+ * - 저장 후 안 읽은 알림 수 카운터 갱신 + SSE 연결로 전송
+ * - 큐가 가득 차면 잠깐 기다렸다가, 그래도 자리가 없으면 호출 스레드에서 별도 트랜잭션으로 저장
+ * - 종료 시 큐에 남은 알림을 모두 저장한 뒤 멈춤
+ */
+@Component
+public class NotificationWriter {
+
+    private static final int MAX_BATCH = 500;
+    private static final long OFFER_WAIT_MS = 200;
+
+    private final NotificationRepository notificationRepo;
+    private final MemberRepository memberRepo;
+    private final TransactionTemplate tx;
+    private final UnreadCounter unreadCounter;
+    private final NotificationStreams streams;
+    private final long coalesceMs;
+
+    private final BlockingQueue<NotificationEvent> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public NotificationWriter(NotificationRepository notificationRepo,
+                              MemberRepository memberRepo,
+                              PlatformTransactionManager transactionManager,
+                              UnreadCounter unreadCounter,
+                              NotificationStreams streams,
+                              @Value("${app.notification.coalesce-ms:2000}") long coalesceMs,
+                              @Value("${app.notification.queue-capacity:10000}") int queueCapacity) {
+        this.notificationRepo = notificationRepo;
+        this.memberRepo = memberRepo;
+        // AFTER_COMMIT 리스너에서는 커밋이 끝난 트랜잭션이 아직 묶여 있어 REQUIRED 로는 저장되지 않음
+        // → 항상 새 트랜잭션으로 저장 (워커 스레드에서는 묶인 트랜잭션이 없으므로 차이 없음)
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.unreadCounter = unreadCounter;
+        this.streams = streams;
+        this.coalesceMs = coalesceMs;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.worker = new Thread(this::loop, "notification-writer");
+        this.worker.setDaemon(true); // 정상 종료 시 남은 알림은 shutdown() 에서 저장
+    }
+
+    // 빈 생성이 끝난 뒤 워커 시작 (생성자에서 this 를 다른 스레드에 넘기지 않음)
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    // ✅ 커밋된 뒤에만 큐에 넣음 (롤백된 작업의 알림은 버림, 트랜잭션 밖 호출은 바로 큐로)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEvent(NotificationEvent event) {
+        try {
+            if (queue.offer(event, OFFER_WAIT_MS, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 워커가 따라잡지 못하면 호출 스레드에서 바로 저장 (유실 방지, REQUIRES_NEW)
+        write(List.of(event));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(10_000);
+        // 워커가 끝난 뒤 남은 알림 저장
+        List<NotificationEvent> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int i = 0; i < rest.size(); i += MAX_BATCH) {
+            write(rest.subList(i, Math.min(rest.size(), i + MAX_BATCH)));
+        }
+    }
+
+    private void loop() {
+        List<NotificationEvent> batch = new ArrayList<>(MAX_BATCH);
+        while (running) {
+            try {
+                NotificationEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // 첫 이벤트 이후 coalesce-ms 동안 더 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesceMs);
+                while (batch.size() < MAX_BATCH) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    NotificationEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중: 모아 둔 배치는 아래에서 저장하고 루프 종료
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<NotificationEvent> events) {
+        // 같은 키는 마지막 이벤트 하나만 남김
+        Map<NotificationEvent.Key, NotificationEvent> coalesced = new LinkedHashMap<>();
+        for (NotificationEvent e : events) {
+            coalesced.remove(e.key());
+            coalesced.put(e.key(), e);
+        }
+        Map<Long, Integer> savedPerMember = new HashMap<>();
+        List<NotificationResponse> saved = new ArrayList<>();
+        try {
+            tx.executeWithoutResult(s -> {
+                Set<Long> memberIds = new HashSet<>();
+                coalesced.values().forEach(e -> memberIds.add(e.memberId()));
+                Set<Long> existing = new HashSet<>(memberRepo.findExistingIds(memberIds));
+
+                List<Notification> rows = new ArrayList<>(coalesced.size());
+                for (NotificationEvent e : coalesced.values()) {
+                    if (!existing.contains(e.memberId())) continue; // 그 사이 삭제된 회원
+                    rows.add(Notification.builder()
+                            .member(memberRepo.getReferenceById(e.memberId()))
+                            .type(e.type())
+                            .message(e.message())
+                            .createdAt(e.createdAt())
+                            .build());
+                }
+                notificationRepo.saveAll(rows);
+                for (Notification n : rows) {
+                    Long memberId = n.getMember().getId();
+                    savedPerMember.merge(memberId, 1, Integer::sum);
+                    saved.add(new NotificationResponse(
+                            n.getId(), memberId, n.getType(), n.getMessage(), false, n.getCreatedAt()));
+                }
+            });
+            savedPerMember.forEach(unreadCounter::added);
+            streams.push(saved);
+        } catch (RuntimeException ex) {
+            System.err.println("알림 저장 실패 (" + coalesced.size() + "건): " + ex.getMessage());
+        }
+    }
+}
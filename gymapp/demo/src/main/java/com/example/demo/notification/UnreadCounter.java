@@ -0,0 +1,118 @@
+package com.example.demo.notification;
+
+import com.example.demo.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 안 읽은 알림 수 (인메모리)
+ * - 알림이 저장될 때 / 모두 읽음 처리 시 갱신 → 조회는 DB 를 거치지 않음
+ * - ConcurrentHashMap 의 버킷 단위 잠금(compute)으로 회원별 갱신이 서로 막지 않음
+ * - 회원마다 version 을 두어 ETag 로 사용 (바뀌지 않았으면 304)
+ * - 기동 시 한 번 채우고, 이후 주기적으로 DB 집계와 맞춤
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadCounter {
+
+    // refresh 도중 다른 갱신과 계속 겹칠 때 다시 읽는 횟수 (넘으면 주기 집계에 맡김)
+    private static final int REFRESH_ATTEMPTS = 3;
+
+    private final NotificationRepository notificationRepo;
+
+    // 재시작 후 이전 ETag 와 겹치지 않도록 기동 시각을 섞음
+    private final long epoch = System.currentTimeMillis();
+    private final ConcurrentHashMap<Long, Entry> counts = new ConcurrentHashMap<>();
+    private volatile boolean warmed;
+
+    private record Entry(long count, long version) {}
+
+    public record Snapshot(long count, String etag) {}
+
+    // ✅ 안 읽은 알림 수 + ETag
+    public Snapshot get(Long memberId) {
+        Entry e = counts.get(memberId);
+        if (e == null && !warmed) {
+            // 첫 집계 전에는 DB 에서 한 번 읽어 채움
+            long count = notificationRepo.countByMemberIdAndIsReadFalse(memberId);
+            e = counts.computeIfAbsent(memberId, id -> new Entry(count, 1));
+        }
+        if (e == null) {
+            return new Snapshot(0, etag(memberId, 0));
+        }
+        return new Snapshot(e.count(), etag(memberId, e.version()));
+    }
+
+    // ✅ 새 알림이 저장된 뒤 (NotificationWriter)
+    public void added(Long memberId, int delta) {
+        counts.compute(memberId, (id, cur) -> {
+            if (cur == null) {
+                // 첫 집계 전이면 다음 조회 때 DB 에서 읽도록 비워 둠
+                return warmed ? new Entry(delta, 1) : null;
+            }
+            return new Entry(cur.count() + delta, cur.version() + 1);
+        });
+    }
+
+    // ✅ 읽음 처리 후 해당 회원만 DB 와 다시 맞춤 (커밋 이후)
+    // - reconcile 과 같이 읽기 전 값(seen)과 그대로일 때만 교체 → 집계 도중 added() 가 끼면 빠뜨리거나 두 번 세지 않고 다시 읽음
+    public void refresh(Long memberId) {
+        AfterCommit.run(() -> {
+            for (int i = 0; i < REFRESH_ATTEMPTS; i++) {
+                if (tryRefresh(memberId)) return;
+            }
+        });
+    }
+
+    private boolean tryRefresh(Long memberId) {
+        Entry seen = counts.get(memberId);
+        long count = notificationRepo.countByMemberIdAndIsReadFalse(memberId);
+        if (seen == null) return counts.putIfAbsent(memberId, new Entry(count, 1)) == null;
+        if (seen.count() == count) return counts.get(memberId) == seen;
+        return counts.replace(memberId, seen, new Entry(count, seen.version() + 1));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    // ✅ 주기적으로 DB 집계와 맞춤 (기본 5분)
+    @Scheduled(initialDelayString = "${app.notification.unread-reconcile-ms:300000}",
+               fixedDelayString = "${app.notification.unread-reconcile-ms:300000}")
+    public void reconcile() {
+        // 집계 도중 바뀐 회원은 건드리지 않기 위해 시작 시점 값을 기억
+        Map<Long, Entry> before = new HashMap<>(counts);
+        Map<Long, Long> actual = new HashMap<>();
+        for (Object[] row : notificationRepo.countUnreadGroupByMember()) {
+            actual.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        Set<Long> memberIds = new HashSet<>(before.keySet());
+        memberIds.addAll(actual.keySet());
+        for (Long memberId : memberIds) {
+            Entry seen = before.get(memberId);
+            long dbCount = actual.getOrDefault(memberId, 0L);
+            counts.compute(memberId, (id, cur) -> {
+                if (cur != seen) return cur;                       // 집계 중 갱신됨 → 다음 주기에 맞춤
+                if (cur == null) return dbCount == 0 ? null : new Entry(dbCount, 1);
+                if (cur.count() == dbCount) return cur;
+                return new Entry(dbCount, cur.version() + 1);
+            });
+        }
+        warmed = true;
+    }
+
+    private String etag(Long memberId, long version) {
+        return "\"" + Long.toString(epoch, 36) + "-" + memberId + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.notification.dto;
+
+import com.example.demo.notification.BroadcastTarget;
+import com.example.demo.notification.NotificationType;
+
+public record BroadcastRequest(
+        BroadcastTarget target,
+        Long trainerId,          // TRAINEES 일 때 대상 트레이너 (트레이너 본인 요청이면 생략 가능)
+        NotificationType type,   // 생략 시 ADMIN_NOTICE
+        String message
+) {}
@@ -0,0 +1,19 @@
+package com.example.demo.notification.dto;
+
+import com.example.demo.notification.BroadcastStatus;
+import com.example.demo.notification.BroadcastTarget;
+
+import java.time.LocalDateTime;
+
+public record BroadcastResponse(
+        Long id,
+        BroadcastStatus status,
+        BroadcastTarget target,
+        Long trainerId,
+        int total,      // 수신 대상 수
+        int sent,       // 저장된 알림 수
+        int failed,     // 저장에 실패한 대상 수
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {}
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "pt_sessions")
+@Table(name = "pt_sessions",
+       indexes = {
+           @Index(name = "idx_pt_session_member_date", columnList = "member_id, session_date"),
+           @Index(name = "idx_pt_session_trainer_date", columnList = "trainer_id, session_date")
+       })
 public class PtSession extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
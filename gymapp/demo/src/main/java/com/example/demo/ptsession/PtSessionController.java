@@ -1,5 +1,6 @@
 package com.example.demo.ptsession;
 
+import com.example.demo.common.CursorPage;
 import com.example.demo.ptsession.dto.PtSessionRequest;
 import com.example.demo.ptsession.dto.PtSessionResponse;
 import jakarta.validation.Valid;
@@ -47,6 +48,31 @@ public class PtSessionController {
         return sessionService.getByTrainerId(trainerId);
     }
 
+    /**
+     * 회원별 PT 세션 조회 (커서 페이지)
+     */
+    @GetMapping("/member/{memberId}/page")
+    public CursorPage<PtSessionResponse> getByMemberPage(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return sessionService.getPageByMemberId(memberId, cursor, size);
+    }
+
+    /**
+     * 트레이너별 PT 세션 조회 (커서 페이지)
+     */
+    @GetMapping("/trainer/{trainerId}/page")
+    @PreAuthorize("hasAnyRole('TRAINER', 'ADMIN')")
+    public CursorPage<PtSessionResponse> getByTrainerPage(
+            @PathVariable Long trainerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return sessionService.getPageByTrainerId(trainerId, cursor, size);
+    }
+
     /**
      * 특정 기간 PT 세션 조회
      */
@@ -1,11 +1,16 @@
 package com.example.demo.ptsession;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PtSessionRepository extends JpaRepository<PtSession, Long> {
 
@@ -15,6 +20,28 @@ public interface PtSessionRepository extends JpaRepository<PtSession, Long> {
     // 트레이너별 PT 세션 조회 (최신순)
     List<PtSession> findByTrainerIdOrderBySessionDateDesc(Long trainerId);
 
+    // 회원별 키셋 페이지 (PT 일시 최신순, 회원/트레이너 이름까지 한 번에 조회)
+    @Query("SELECT p FROM PtSession p JOIN FETCH p.member JOIN FETCH p.trainer " +
+           "WHERE p.member.id = :memberId " +
+           "AND (:cursorId IS NULL OR p.sessionDate < :cursorAt " +
+           "     OR (p.sessionDate = :cursorAt AND p.id < :cursorId)) " +
+           "ORDER BY p.sessionDate DESC, p.id DESC")
+    List<PtSession> findPageByMemberId(@Param("memberId") Long memberId,
+                                       @Param("cursorAt") LocalDateTime cursorAt,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
+    // 트레이너별 키셋 페이지 (PT 일시 최신순)
+    @Query("SELECT p FROM PtSession p JOIN FETCH p.member JOIN FETCH p.trainer " +
+           "WHERE p.trainer.id = :trainerId " +
+           "AND (:cursorId IS NULL OR p.sessionDate < :cursorAt " +
+           "     OR (p.sessionDate = :cursorAt AND p.id < :cursorId)) " +
+           "ORDER BY p.sessionDate DESC, p.id DESC")
+    List<PtSession> findPageByTrainerId(@Param("trainerId") Long trainerId,
+                                        @Param("cursorAt") LocalDateTime cursorAt,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
     // 특정 기간 회원 PT 세션 조회
     @Query("SELECT p FROM PtSession p WHERE p.member.id = :memberId " +
            "AND p.sessionDate BETWEEN :startDate AND :endDate " +
@@ -25,6 +52,11 @@ public interface PtSessionRepository extends JpaRepository<PtSession, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
+    // 검색 색인 재구축용 (id, memberId, sessionDate, content) - 트레이너 메모는 색인하지 않음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id, p.member.id, p.sessionDate, p.content FROM PtSession p")
+    Stream<Object[]> streamSearchRows();
+
     // 회원의 PT 세션 개수
     long countByMemberId(Long memberId);
 
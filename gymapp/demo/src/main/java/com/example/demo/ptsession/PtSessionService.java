@@ -1,8 +1,12 @@
 package com.example.demo.ptsession;
 
 import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.CursorPage;
+import com.example.demo.common.KeysetCursor;
 import com.example.demo.member.Member;
+import com.example.demo.member.MemberOwnershipIndex;
 import com.example.demo.member.MemberRepository;
+import com.example.demo.member.dto.MemberOwnership;
 import com.example.demo.membership.Membership;
 import com.example.demo.membership.MembershipRepository;
 import com.example.demo.membership.SessionType;
@@ -10,8 +14,11 @@ import com.example.demo.notification.NotificationService;
 import com.example.demo.notification.NotificationType;
 import com.example.demo.ptsession.dto.PtSessionRequest;
 import com.example.demo.ptsession.dto.PtSessionResponse;
+import com.example.demo.search.SearchDocType;
+import com.example.demo.search.SearchIndexer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,10 +33,14 @@ import java.util.List;
 @Transactional
 public class PtSessionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PtSessionRepository sessionRepo;
     private final MemberRepository memberRepo;
+    private final MemberOwnershipIndex ownershipIndex;
     private final MembershipRepository membershipRepo;
     private final NotificationService notiService;
+    private final SearchIndexer searchIndexer;
 
     /**
      * PT 세션 기록 생성
@@ -70,6 +81,7 @@ public class PtSessionService {
                 .build();
 
         sessionRepo.save(session);
+        searchIndexer.ptSession(session);
 
         // PT 횟수 차감
         Membership membership = membershipRepo.findByMemberId(req.memberId())
@@ -78,7 +90,7 @@ public class PtSessionService {
         membership.decrement(SessionType.REGULAR);
 
         // 알림 생성
-        notiService.create(
+        notiService.publish(
                 req.memberId(),
                 NotificationType.SUCCESS,
                 String.format("PT 세션이 완료되었습니다. (트레이너: %s)", trainer.getName())
@@ -86,7 +98,7 @@ public class PtSessionService {
 
         // 잔여 PT 3회 이하 경고
         if (membership.remainPT() <= 3 && membership.remainPT() > 0) {
-            notiService.create(
+            notiService.publish(
                     req.memberId(),
                     NotificationType.WARNING,
                     String.format("⚠️ PT 잔여 횟수가 %d회 남았습니다!", membership.remainPT())
@@ -126,6 +138,44 @@ public class PtSessionService {
                 .toList();
     }
 
+    /**
+     * 회원별 PT 세션 조회 (커서 페이지, PT 일시 최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PtSessionResponse> getPageByMemberId(Long memberId, String cursor, int size) {
+        checkReadPermission(memberId);
+        int limit = KeysetCursor.clampSize(size, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decodeOrNull(cursor);
+        return toPage(sessionRepo.findPageByMemberId(memberId,
+                after != null ? after.dateTimeKey() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, limit + 1)), limit);
+    }
+
+    /**
+     * 트레이너별 PT 세션 조회 (커서 페이지, PT 일시 최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PtSessionResponse> getPageByTrainerId(Long trainerId, String cursor, int size) {
+        UserPrincipal currentUser = getCurrentUser();
+        if (!currentUser.isAdmin() && !currentUser.getId().equals(trainerId)) {
+            throw new AccessDeniedException("자신의 PT 세션만 조회할 수 있습니다.");
+        }
+        int limit = KeysetCursor.clampSize(size, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decodeOrNull(cursor);
+        return toPage(sessionRepo.findPageByTrainerId(trainerId,
+                after != null ? after.dateTimeKey() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, limit + 1)), limit);
+    }
+
+    private CursorPage<PtSessionResponse> toPage(List<PtSession> sessions, int limit) {
+        List<PtSessionResponse> rows = sessions.stream()
+                .map(PtSessionResponse::fromEntity)
+                .toList();
+        return CursorPage.of(rows, limit, r -> KeysetCursor.of(r.sessionDate(), r.id()));
+    }
+
     /**
      * 특정 기간 PT 세션 조회
      */
@@ -156,6 +206,7 @@ public class PtSessionService {
         session.setDuration(req.duration());
         session.setContent(req.content());
         session.setMemo(req.memo());
+        searchIndexer.ptSession(session);
 
         return PtSessionResponse.fromEntity(session);
     }
@@ -185,10 +236,11 @@ public class PtSessionService {
     }
 
     sessionRepo.delete(session);
+    searchIndexer.remove(SearchDocType.PT_SESSION, sessionId);
 
     // ✅ 알림 생성 (SUCCESS 사용)
     try {
-        notiService.create(
+        notiService.publish(
                 session.getMember().getId(),
                 NotificationType.SUCCESS,
                 "PT 세션 기록이 삭제되었습니다. PT 횟수가 복구되었습니다."
@@ -212,9 +264,9 @@ public class PtSessionService {
 
         // 트레이너는 담당 회원의 PT 세션 조회 가능
         if (user.isTrainer()) {
-            Member member = memberRepo.findById(memberId)
+            MemberOwnership owner = ownershipIndex.find(memberId)
                     .orElseThrow(() -> new EntityNotFoundException("회원을 찾을 수 없습니다."));
-            if (member.getTrainer() != null && member.getTrainer().getId().equals(user.getId())) {
+            if (owner.isTrainedBy(user.getId())) {
                 return;
             }
         }
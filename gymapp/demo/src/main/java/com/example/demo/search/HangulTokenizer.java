@@ -0,0 +1,94 @@
+package com.example.demo.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색용 토크나이저 (한글 바이그램)
+ * - 문자/숫자가 이어진 구간을 한글 / 그 외로 나눈 뒤 두 글자씩 겹쳐 자름 ("스쿼트" → 스쿼, 쿼트)
+ * - 형태소 분석 없이도 조사가 붙은 단어("스쿼트를")나 붙여 쓴 말에서 부분 검색 가능
+ * - 한 글자 검색도 긴 구간 안에서 찾을 수 있도록 글자 단위 용어도 함께 색인 ("5" → "15kg")
+ * - 바이그램 교집합은 후보일 뿐 ("스쿼트" 는 "쿼트 … 스쿼" 에도 걸림) → SearchIndex 가 normalize 한 원문으로 다시 확인
+ */
+final class HangulTokenizer {
+
+    private HangulTokenizer() {
+    }
+
+    // ✅ 색인용: 용어 → 등장 횟수
+    static Map<String, Integer> index(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        forEachRun(text, (run, hangul) -> {
+            for (int i = 0; i < run.length(); i++) {
+                terms.merge(run.substring(i, i + 1), 1, Integer::sum);
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.merge(run.substring(i, i + 2), 1, Integer::sum);
+            }
+        });
+        return terms;
+    }
+
+    // ✅ 검색어용: 모두 포함해야 하는 용어 (한 글자 구간은 글자 그대로, 나머지는 바이그램)
+    static Set<String> query(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachRun(text, (run, hangul) -> {
+            if (run.length() == 1) {
+                terms.add(run);
+                return;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        });
+        return terms;
+    }
+
+    // ✅ 검색어의 글자 구간 (후보 문서에 그대로 들어 있는지 확인용)
+    static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        forEachRun(text, (run, hangul) -> runs.add(run));
+        return runs;
+    }
+
+    // ✅ 대조용 정규화 (색인/검색과 같은 NFC + 소문자)
+    static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private interface RunConsumer {
+        void accept(String run, boolean hangul);
+    }
+
+    private static void forEachRun(String text, RunConsumer consumer) {
+        if (text == null || text.isBlank()) return;
+        String s = normalize(text);
+
+        int start = -1;
+        boolean startHangul = false;
+        for (int i = 0; i <= s.length(); i++) {
+            char c = i < s.length() ? s.charAt(i) : ' ';
+            boolean word = Character.isLetterOrDigit(c);
+            boolean hangul = word && isHangul(c);
+            if (start >= 0 && (!word || hangul != startHangul)) {
+                consumer.accept(s.substring(start, i), startHangul);
+                start = -1;
+            }
+            if (word && start < 0) {
+                start = i;
+                startHangul = hangul;
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.search;
+
+import com.example.demo.auth.UserPrincipal;
+import com.example.demo.search.dto.SearchResultResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // 🔍 운동일지 / 식단일지 / PT 세션 / 식단 댓글 통합 검색 (관련도순, 조회 권한 있는 기록만)
+    @GetMapping
+    public List<SearchResultResponse> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<SearchDocType> types,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal user) {
+        return searchService.search(q, types, memberId, size, user);
+    }
+}
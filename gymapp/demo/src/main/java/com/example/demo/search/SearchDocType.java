@@ -0,0 +1,8 @@
+package com.example.demo.search;
+
+public enum SearchDocType {
+    WORKOUT_LOG,   // 운동일지 (제목 + 내용)
+    DIET_LOG,      // 식단일지 (제목 + 내용)
+    PT_SESSION,    // PT 세션 운동 내용 (트레이너 메모는 제외)
+    DIET_COMMENT   // 식단일지 댓글
+}
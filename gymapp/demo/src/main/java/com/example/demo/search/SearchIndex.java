@@ -0,0 +1,224 @@
+package com.example.demo.search;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 인메모리 역색인 (운동일지 / 식단일지 / PT 세션 / 식단 댓글)
+ * - 용어(HangulTokenizer) → 문서별 가중치 목록, 검색은 가장 짧은 목록부터 교집합 → 점수순
+ * - 교집합은 후보일 뿐이라 문서마다 정규화한 제목/본문을 들고 있다가 실제 부분 문자열로 한 번 더 확인
+ * - 점수: Σ (제목 2 / 본문 1 × 등장 횟수) × idf
+ * - 저장/수정/삭제가 커밋될 때마다 해당 문서만 갱신 (SearchIndexer)
+ * - 읽기/쓰기 잠금 하나로 보호 (검색끼리는 동시에 실행)
+ */
+@Component
+public class SearchIndex {
+
+    private static final float TITLE_WEIGHT = 2f;
+    private static final float CONTENT_WEIGHT = 1f;
+
+    public record Hit(SearchDocType type, long id, long ownerId, LocalDateTime createdAt, double score) {}
+
+    private record Key(SearchDocType type, long id) {}
+
+    // title / content: HangulTokenizer.normalize 결과 (부분 문자열 확인용)
+    private record Doc(Key key, long ownerId, LocalDateTime createdAt, Set<String> terms,
+                       String title, String content) {
+
+        boolean contains(String s) {
+            return title.contains(s) || content.contains(s);
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Key, Float>> postings = new HashMap<>();
+    private final Map<Key, Doc> docs = new HashMap<>();
+
+    // 재구축 중에 먼저 반영된 실시간 변경 (재구축 데이터로 덮어쓰지 않음)
+    private Set<Key> touchedDuringRebuild;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ✅ 문서 추가/교체 (커밋 이후 호출)
+    public void put(SearchDocType type, long id, long ownerId, LocalDateTime createdAt, String title, String content) {
+        Key key = new Key(type, id);
+        Map<String, Float> weights = weigh(title, content);
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringRebuild != null) touchedDuringRebuild.add(key);
+            replace(key, ownerId, createdAt, weights, title, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ✅ 문서 삭제 (커밋 이후 호출)
+    public void remove(SearchDocType type, long id) {
+        Key key = new Key(type, id);
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringRebuild != null) touchedDuringRebuild.add(key);
+            unlink(docs.remove(key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ✅ 검색어의 단어(글자 구간)를 모두 그대로 포함한 문서 (점수 내림차순)
+    public List<Hit> search(String query, Set<SearchDocType> types, Long ownerId) {
+        List<String> runs = HangulTokenizer.runs(query);
+        return collect(query, types, ownerId, doc -> runs.stream().allMatch(doc::contains));
+    }
+
+    // ✅ 한 종류 문서의 검색 결과 id (작성일 최신순, 기간 필터 포함) - 목록 검색 API 용
+    // - DB 의 LIKE '%검색어%' 와 같게: 제목이나 본문에 검색어 전체가 그대로 들어 있는 문서만
+    // - 결과가 limit 을 넘거나 색인할 글자가 없는 검색어면 empty → 호출자는 DB 검색으로
+    public Optional<List<Long>> matchIds(SearchDocType type, String query, Long ownerId,
+                                         LocalDateTime from, LocalDateTime to, int limit) {
+        if (HangulTokenizer.query(query).isEmpty()) return Optional.empty();
+        String phrase = HangulTokenizer.normalize(query);
+        List<Long> ids = collect(query, Set.of(type), ownerId, doc -> doc.contains(phrase)).stream()
+                .filter(h -> from == null || (h.createdAt() != null && !h.createdAt().isBefore(from)))
+                .filter(h -> to == null || (h.createdAt() != null && !h.createdAt().isAfter(to)))
+                .sorted(Comparator.comparing(Hit::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(Hit::id, Comparator.reverseOrder()))
+                .limit(limit + 1L)
+                .map(Hit::id)
+                .toList();
+        return ids.size() > limit ? Optional.empty() : Optional.of(ids);
+    }
+
+    private List<Hit> collect(String query, Set<SearchDocType> types, Long ownerId, Predicate<Doc> verify) {
+        Set<String> terms = HangulTokenizer.query(query);
+        if (terms.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Map<Key, Float>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Key, Float> list = postings.get(term);
+                if (list == null) return List.of();
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int total = docs.size();
+            List<Hit> hits = new ArrayList<>();
+            candidates:
+            for (Key key : lists.get(0).keySet()) {
+                if (types != null && !types.contains(key.type())) continue;
+                Doc doc = docs.get(key);
+                if (ownerId != null && doc.ownerId() != ownerId) continue;
+
+                double score = 0;
+                for (Map<Key, Float> list : lists) {
+                    Float w = list.get(key);
+                    if (w == null) continue candidates;
+                    score += w * Math.log(1 + (double) total / list.size());
+                }
+                if (!verify.test(doc)) continue;
+                hits.add(new Hit(key.type(), key.id(), doc.ownerId(), doc.createdAt(), score));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(Hit::id, Comparator.reverseOrder()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================
+    // 🔄 전체 재구축 (기동 시)
+    // ========================
+
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = new HashSet<>();
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void rebuildPut(SearchDocType type, long id, long ownerId, LocalDateTime createdAt, String title, String content) {
+        Key key = new Key(type, id);
+        Map<String, Float> weights = weigh(title, content);
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringRebuild != null && touchedDuringRebuild.contains(key)) return;
+            replace(key, ownerId, createdAt, weights, title, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재구축 실패 → 실시간 변경 기록만 정리 (ready 는 false 유지, 검색은 LIKE 쿼리로)
+    void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void endRebuild() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<String, Float> weigh(String title, String content) {
+        Map<String, Float> weights = new HashMap<>();
+        HangulTokenizer.index(title).forEach((t, n) -> weights.merge(t, n * TITLE_WEIGHT, Float::sum));
+        HangulTokenizer.index(content).forEach((t, n) -> weights.merge(t, n * CONTENT_WEIGHT, Float::sum));
+        return weights;
+    }
+
+    private void replace(Key key, long ownerId, LocalDateTime createdAt, Map<String, Float> weights,
+                         String title, String content) {
+        unlink(docs.remove(key));
+        if (weights.isEmpty()) return;
+        docs.put(key, new Doc(key, ownerId, createdAt, weights.keySet(),
+                HangulTokenizer.normalize(title), HangulTokenizer.normalize(content)));
+        weights.forEach((term, w) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, w));
+    }
+
+    private void unlink(Doc doc) {
+        if (doc == null) return;
+        for (String term : doc.terms()) {
+            Map<Key, Float> list = postings.get(term);
+            if (list == null) continue;
+            list.remove(doc.key());
+            if (list.isEmpty()) postings.remove(term);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.demo.search;
+
+import com.example.demo.common.AfterCommit;
+import com.example.demo.diet.DietComment;
+import com.example.demo.diet.DietCommentRepository;
+import com.example.demo.diet.DietLog;
+import com.example.demo.diet.DietLogRepository;
+import com.example.demo.ptsession.PtSession;
+import com.example.demo.ptsession.PtSessionRepository;
+import com.example.demo.workout.WorkoutLog;
+import com.example.demo.workout.WorkoutLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 검색 색인 갱신
+ * - 기동 시 백그라운드 스레드에서 전체 재구축 (완료 전까지 목록 검색은 기존 LIKE 쿼리 사용)
+ *   실패하면 간격을 두 배씩 늘리며(최대 5분) 성공할 때까지 다시 시도
+ * - 각 서비스의 생성/수정/삭제가 커밋된 뒤 해당 문서만 반영 (롤백되면 반영하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+
+    private static final long RETRY_INITIAL_MS = 5_000;
+    private static final long RETRY_MAX_MS = 300_000;
+
+    private final SearchIndex index;
+    private final WorkoutLogRepository workoutLogRepo;
+    private final DietLogRepository dietLogRepo;
+    private final PtSessionRepository ptSessionRepo;
+    private final DietCommentRepository dietCommentRepo;
+    private final TransactionTemplate tx;
+
+    // ✅ 문서 반영 (엔티티 값은 커밋 시점 기준으로 읽음)
+    public void workoutLog(WorkoutLog log) {
+        AfterCommit.run(() -> index.put(SearchDocType.WORKOUT_LOG, log.getId(), log.getMember().getId(),
+                log.getCreatedAt(), log.getTitle(), log.getContent()));
+    }
+
+    public void dietLog(DietLog log) {
+        AfterCommit.run(() -> index.put(SearchDocType.DIET_LOG, log.getId(), log.getMember().getId(),
+                log.getCreatedAt(), log.getTitle(), log.getContent()));
+    }
+
+    public void ptSession(PtSession session) {
+        AfterCommit.run(() -> index.put(SearchDocType.PT_SESSION, session.getId(), session.getMember().getId(),
+                session.getSessionDate(), null, session.getContent()));
+    }
+
+    public void dietComment(DietComment comment, Long logOwnerId) {
+        AfterCommit.run(() -> index.put(SearchDocType.DIET_COMMENT, comment.getId(), logOwnerId,
+                comment.getCreatedAt(), null, comment.getContent()));
+    }
+
+    // ✅ 문서 삭제
+    public void remove(SearchDocType type, Long id) {
+        AfterCommit.run(() -> index.remove(type, id));
+    }
+
+    public void removeAll(SearchDocType type, Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        AfterCommit.run(() -> ids.forEach(id -> index.remove(type, id)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread t = new Thread(this::rebuildUntilReady, "search-index-rebuild");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    private void rebuildUntilReady() {
+        long delay = RETRY_INITIAL_MS;
+        while (!rebuild()) {
+            System.err.println("검색 색인 재구축 " + (delay / 1000) + "초 후 다시 시도");
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = Math.min(delay * 2, RETRY_MAX_MS);
+        }
+    }
+
+    // ✅ 전체 재구축 (문서 종류별로 한 번씩 스트리밍 조회) → 성공 여부
+    public boolean rebuild() {
+        long start = System.currentTimeMillis();
+        index.beginRebuild();
+        boolean done = false;
+        try {
+            load(SearchDocType.WORKOUT_LOG, workoutLogRepo::streamSearchRows, true);
+            load(SearchDocType.DIET_LOG, dietLogRepo::streamSearchRows, true);
+            load(SearchDocType.PT_SESSION, ptSessionRepo::streamSearchRows, false);
+            load(SearchDocType.DIET_COMMENT, dietCommentRepo::streamSearchRows, false);
+            done = true;
+            System.out.println("검색 색인 구축 완료: 문서 " + index.size() + "건 ("
+                    + (System.currentTimeMillis() - start) + "ms)");
+        } catch (RuntimeException e) {
+            System.err.println("검색 색인 구축 실패 (목록 검색은 LIKE 쿼리로 동작): " + e.getMessage());
+        } finally {
+            if (done) {
+                index.endRebuild();
+            } else {
+                index.abortRebuild();
+            }
+        }
+        return done;
+    }
+
+    // 행 형식: id, memberId, createdAt, [title,] content
+    private void load(SearchDocType type, Supplier<Stream<Object[]>> rows, boolean hasTitle) {
+        tx.executeWithoutResult(s -> {
+            try (Stream<Object[]> stream = rows.get()) {
+                stream.forEach(row -> {
+                    if (row[1] == null) return;
+                    index.rebuildPut(type, (Long) row[0], (Long) row[1], (LocalDateTime) row[2],
+                            hasTitle ? (String) row[3] : null,
+                            (String) row[hasTitle ? 4 : 3]);
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demo.search;
+
+import com.example.demo.auth.UserPrincipal;
+import com.example.demo.diet.DietCommentRepository;
+import com.example.demo.diet.DietLog;
+import com.example.demo.diet.DietLogRepository;
+import com.example.demo.member.MemberOwnershipIndex;
+import com.example.demo.ptsession.PtSession;
+import com.example.demo.ptsession.PtSessionRepository;
+import com.example.demo.search.dto.SearchResultResponse;
+import com.example.demo.workout.WorkoutLog;
+import com.example.demo.workout.WorkoutLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 통합 검색
+ * 1. SearchIndex 에서 점수순 후보 (DB 조회 없음)
+ * 2. 조회 권한 필터 (관리자 전체 / 본인 / 담당 트레이너) - 회원별로 한 번만 확인
+ * 3. 남은 상위 size 건을 문서 종류별 쿼리 한 번씩으로 채움 (댓글은 식단일지 id / 주인까지 조인으로)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final SearchIndex index;
+    private final MemberOwnershipIndex ownershipIndex;
+    private final WorkoutLogRepository workoutLogRepo;
+    private final DietLogRepository dietLogRepo;
+    private final PtSessionRepository ptSessionRepo;
+    private final DietCommentRepository dietCommentRepo;
+
+    public List<SearchResultResponse> search(String query, Set<SearchDocType> types, Long memberId,
+                                             int size, UserPrincipal user) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        if (memberId != null && !canRead(user, memberId, new HashMap<>())) {
+            throw new AccessDeniedException("해당 회원의 기록을 검색할 권한이 없습니다.");
+        }
+
+        // 1~2. 후보 → 권한 필터 → 상위 limit 건
+        Map<Long, Boolean> access = new HashMap<>();
+        List<SearchIndex.Hit> hits = new ArrayList<>(limit);
+        for (SearchIndex.Hit hit : index.search(query, types == null || types.isEmpty() ? null : types, memberId)) {
+            if (!canRead(user, hit.ownerId(), access)) continue;
+            hits.add(hit);
+            if (hits.size() == limit) break;
+        }
+        if (hits.isEmpty()) return List.of();
+
+        // 3. 종류별 일괄 조회
+        Map<SearchDocType, List<Long>> idsByType = new EnumMap<>(SearchDocType.class);
+        hits.forEach(h -> idsByType.computeIfAbsent(h.type(), t -> new ArrayList<>()).add(h.id()));
+
+        Map<SearchDocType, Map<Long, SearchResultResponse>> loaded = new EnumMap<>(SearchDocType.class);
+        idsByType.forEach((type, ids) -> loaded.put(type, load(type, ids)));
+
+        // 점수순 유지, 그 사이 삭제된 문서는 제외
+        List<SearchResultResponse> results = new ArrayList<>(hits.size());
+        for (SearchIndex.Hit hit : hits) {
+            SearchResultResponse r = loaded.get(hit.type()).get(hit.id());
+            if (r == null) continue;
+            results.add(new SearchResultResponse(r.type(), r.id(), r.memberId(), r.parentId(),
+                    r.title(), r.content(), hit.score(), r.createdAt()));
+        }
+        return results;
+    }
+
+    private Map<Long, SearchResultResponse> load(SearchDocType type, List<Long> ids) {
+        return switch (type) {
+            case WORKOUT_LOG -> byId(workoutLogRepo.findAllById(ids), (WorkoutLog l) -> new SearchResultResponse(
+                    type, l.getId(), l.getMember().getId(), null, l.getTitle(), l.getContent(), 0, l.getCreatedAt()));
+            case DIET_LOG -> byId(dietLogRepo.findAllById(ids), (DietLog l) -> new SearchResultResponse(
+                    type, l.getId(), l.getMember().getId(), null, l.getTitle(), l.getContent(), 0, l.getCreatedAt()));
+            case PT_SESSION -> byId(ptSessionRepo.findAllById(ids), (PtSession p) -> new SearchResultResponse(
+                    type, p.getId(), p.getMember().getId(), null, null, p.getContent(), 0, p.getSessionDate()));
+            case DIET_COMMENT -> byId(dietCommentRepo.findSearchRowsByIdIn(ids), (Object[] r) -> new SearchResultResponse(
+                    type, (Long) r[0], (Long) r[2], (Long) r[1], null, (String) r[3], 0, (LocalDateTime) r[4]));
+        };
+    }
+
+    private static <T> Map<Long, SearchResultResponse> byId(List<T> rows, Function<T, SearchResultResponse> mapper) {
+        return rows.stream().map(mapper).collect(Collectors.toMap(SearchResultResponse::id, r -> r));
+    }
+
+    // 조회 권한: 관리자 / 본인 / 담당 트레이너 (회원별 결과는 요청 안에서 재사용)
+    private boolean canRead(UserPrincipal user, Long ownerId, Map<Long, Boolean> access) {
+        if (user.isAdmin() || user.getId().equals(ownerId)) return true;
+        if (!user.isTrainer()) return false;
+        return access.computeIfAbsent(ownerId, id -> ownershipIndex.find(id)
+                .map(owner -> owner.isTrainedBy(user.getId()))
+                .orElse(false));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.search.dto;
+
+import com.example.demo.search.SearchDocType;
+
+import java.time.LocalDateTime;
+
+public record SearchResultResponse(
+        SearchDocType type,
+        Long id,
+        Long memberId,    // 기록 주인 (댓글은 식단일지 주인)
+        Long parentId,    // 댓글이 달린 식단일지 id (그 외 null)
+        String title,
+        String content,
+        double score,
+        LocalDateTime createdAt
+) {}
@@ -1,12 +1,17 @@
 package com.example.demo.storage;
 
+import com.example.demo.auth.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.demo.storage.dto.FileUploadResponse;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
@@ -17,14 +22,26 @@ public class FileController {
     // ✅ 파일 업로드
     @PreAuthorize("hasAnyRole('OT','PT','TRAINER','ADMIN')")
     @PostMapping("/upload")
-    public FileUploadResponse upload(@RequestParam MultipartFile file) {
-        return fileService.upload(file);
+    public FileUploadResponse upload(@RequestParam MultipartFile file,
+                                     @AuthenticationPrincipal UserPrincipal user) {
+        return fileService.upload(file, user.getId());
+    }
+
+    // ✅ 대용량 파일 스트리밍 업로드 (multipart 대신 본문 = 파일, Content-Type / Content-Length 필수)
+    @PreAuthorize("hasAnyRole('OT','PT','TRAINER','ADMIN')")
+    @PutMapping("/stream")
+    public FileUploadResponse uploadStream(@RequestParam(required = false) String filename,
+                                           HttpServletRequest request,
+                                           @AuthenticationPrincipal UserPrincipal user) throws IOException {
+        return fileService.uploadStream(request.getInputStream(), request.getContentLengthLong(),
+                request.getContentType(), filename, user.getId());
     }
 
-    // ✅ 파일 삭제
+    // ✅ 파일 삭제 (본인이 올렸고 아직 기록에 연결되지 않은 업로드만)
     @PreAuthorize("hasAnyRole('OT','PT','TRAINER','ADMIN')")
     @DeleteMapping
-    public void delete(@RequestParam String url) {
-        fileService.delete(url);
+    public void delete(@RequestParam String url,
+                      @AuthenticationPrincipal UserPrincipal user) {
+        fileService.delete(url, user.getId());
     }
 }
@@ -1,20 +1,31 @@
 package com.example.demo.storage;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.demo.storage.dto.FileUploadResponse;
 
+import java.io.InputStream;
+
 @Service
 @RequiredArgsConstructor
 public class FileService {
 
+    // 기록에 연결할 미디어 (저장 URL + MIME 타입)
+    public record AttachedMedia(String url, String contentType) {}
+
     private final FileStorage fileStorage;
+    private final MediaUploadValidator validator;
+    private final MediaUploadRepository uploadRepo;
 
-    public FileUploadResponse upload(MultipartFile file) {
+    // 업로드마다 참조 하나 + 올린 사람 기록 (기록에 연결되기 전까지 본인만 삭제 가능)
+    public FileUploadResponse upload(MultipartFile file, Long uploaderId) {
         try {
             String url = fileStorage.save(file);
+            record(url, uploaderId, file.getContentType());
             return new FileUploadResponse(
                     url,
                     file.getOriginalFilename(),
@@ -25,7 +36,63 @@ public class FileService {
         }
     }
 
-    public void delete(String url) {
+    // ✅ 스트리밍 업로드 (형식/크기는 본문을 읽으면서 검증, 위반이면 400)
+    // (본문을 받는 동안에는 트랜잭션 / 커넥션을 잡지 않음)
+    public FileUploadResponse uploadStream(InputStream body, long contentLength, String contentType,
+                                           String filename, Long uploaderId) {
+        String type = validator.checkHeaders(contentType, contentLength);
+        MediaUploadValidator.CheckedInputStream checked = validator.wrap(body, type);
+        try {
+            String url = fileStorage.saveStream(checked, contentLength, type, validator.extensionOf(type));
+            record(url, uploaderId, type);
+            return new FileUploadResponse(url, filename, type);
+        } catch (RuntimeException e) {
+            if (checked.violation() != null) {
+                throw new IllegalArgumentException(checked.violation());
+            }
+            throw e;
+        }
+    }
+
+    // ✅ 본인이 올린, 아직 기록에 연결되지 않은 업로드만 삭제 (참조 하나만 해제)
+    @Transactional
+    public void delete(String url, Long uploaderId) {
+        MediaUpload upload = uploadRepo.findFirstByUrlAndUploaderId(url, uploaderId)
+                .orElseThrow(() -> new AccessDeniedException("직접 올린, 기록에 연결되지 않은 파일만 삭제할 수 있습니다."));
+        uploadRepo.delete(upload);
         fileStorage.delete(url);
     }
+
+    /**
+     * ✅ 기록에 붙일 미디어
+     * - 직접 첨부한 파일이 있으면 저장
+     * - 없고 uploadedUrl 이 있으면 본인이 올린, 아직 연결되지 않은 업로드인지 확인 후 연결
+     *   (업로드 기록을 지워 참조를 기록이 넘겨받음 → 보관 기간 정리 / 업로드 삭제 대상에서 빠짐)
+     * @return 붙일 미디어가 없으면 null
+     */
+    @Transactional
+    public AttachedMedia attach(MultipartFile file, String uploadedUrl, Long uploaderId) {
+        if (file != null && !file.isEmpty()) {
+            return new AttachedMedia(fileStorage.save(file), file.getContentType());
+        }
+        if (uploadedUrl == null || uploadedUrl.isBlank()) return null;
+        MediaUpload upload = uploadRepo.findFirstByUrlAndUploaderId(uploadedUrl, uploaderId)
+                .orElseThrow(() -> new IllegalArgumentException("직접 올린, 기록에 연결되지 않은 미디어만 첨부할 수 있습니다: " + uploadedUrl));
+        uploadRepo.delete(upload);
+        return new AttachedMedia(upload.getUrl(), upload.getContentType());
+    }
+
+    // 업로드 기록 저장 실패 시 방금 얻은 참조를 돌려줌
+    private void record(String url, Long uploaderId, String contentType) {
+        try {
+            uploadRepo.save(MediaUpload.builder()
+                    .url(url)
+                    .uploaderId(uploaderId)
+                    .contentType(contentType)
+                    .build());
+        } catch (RuntimeException e) {
+            fileStorage.delete(url);
+            throw e;
+        }
+    }
 }
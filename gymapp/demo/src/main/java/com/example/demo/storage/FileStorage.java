@@ -2,7 +2,21 @@ package com.example.demo.storage;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+
 public interface FileStorage {
+
+    // 구간 전송용 파일 정보 (etag 는 따옴표 포함)
+    record MediaInfo(long length, long lastModified, String etag, String contentType) {}
+
     String save(MultipartFile file);  // ✅ throws 제거
+    String saveStream(InputStream body, long contentLength, String contentType, String extension); // ✅ 요청 본문을 최종 위치에 바로 저장
     void delete(String url);
+    String publicUrl(String url);      // ✅ 저장 URL → 클라이언트가 바로 쓸 수 있는 URL (null 이면 null)
+    InputStream open(String url);      // ✅ 저장된 파일 읽기 (파생 이미지 생성용)
+    MediaInfo stat(String url);        // ✅ 크기/수정 시각/ETag (파일이 없으면 null)
+    InputStream openRange(String url, long start, long length); // ✅ start 부터 읽기 (S3 는 Range GET, length 이후는 읽지 않을 수 있음)
+    Path localPath(String url);        // ✅ 로컬 디스크 경로 (sendfile 용, S3 는 null)
+    String saveVariant(byte[] jpeg);   // ✅ 파생 JPEG 저장 (내용 해시 이름, 같은 파생본은 한 번만 저장)
 }
@@ -0,0 +1,193 @@
+package com.example.demo.storage;
+
+import com.example.demo.common.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 업로드 이미지 파생본(썸네일 / 중간 크기) 생성 작업자 풀
+ * - 업로드 요청은 원본 저장까지만 하고, 파생본은 커밋 이후 이 풀에서 만들어 저장
+ * - 디코딩 단계에서 서브샘플링 → 큰 사진도 원본 해상도 전체를 메모리에 올리지 않음
+ * - 대기열이 가득 차면 건너뜀 (목록은 원본 URL 로 대체 표시)
+ * - 이미지가 아닌 파일(영상 등)은 ImageIO 가 읽지 못하므로 건너뜀
+ */
+@Component
+public class ImageVariantGenerator {
+
+    public record Variants(String thumbnailUrl, String mediumUrl) {}
+
+    private final FileStorage fileStorage;
+    private final int thumbnailSize;
+    private final int mediumSize;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantGenerator(FileStorage fileStorage,
+                                 @Value("${app.media.variant.thumbnail-size:320}") int thumbnailSize,
+                                 @Value("${app.media.variant.medium-size:1280}") int mediumSize,
+                                 @Value("${app.media.variant.jpeg-quality:0.8}") float jpegQuality,
+                                 @Value("${app.media.variant.queue-capacity:64}") int queueCapacity) {
+        this.fileStorage = fileStorage;
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.jpegQuality = jpegQuality;
+
+        // 디코딩/리사이즈는 CPU 와 메모리를 많이 쓰므로 스레드는 최대 2개
+        int threads = Math.min(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, pool) -> System.err.println("이미지 파생본 생성 대기열이 가득 차 건너뜀"));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * ✅ 커밋 이후 파생본 생성 예약
+     * attach: 생성된 URL 을 엔티티에 기록 (원본이 그 사이 바뀌거나 삭제돼 false 를 반환하면 파생본 삭제)
+     */
+    public void submit(String mediaUrl, Predicate<Variants> attach) {
+        if (mediaUrl == null) return;
+        AfterCommit.run(() -> executor.execute(() -> generate(mediaUrl, attach)));
+    }
+
+    // ✅ 파생본 참조 해제 (원본 교체/삭제 시, 호출한 서비스 트랜잭션 안에서)
+    // → 참조 수는 기록 변경과 함께 커밋/롤백되고, 0 이 된 파일만 커밋 이후 정리 스레드가 삭제
+    public void delete(String thumbnailUrl, String mediumUrl) {
+        if (thumbnailUrl != null) fileStorage.delete(thumbnailUrl);
+        if (mediumUrl != null) fileStorage.delete(mediumUrl);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void generate(String mediaUrl, Predicate<Variants> attach) {
+        long start = System.currentTimeMillis();
+        Variants variants = null;
+        try {
+            BufferedImage decoded = decode(mediaUrl);
+            if (decoded == null) return;
+
+            BufferedImage medium = resize(decoded, mediumSize);
+            BufferedImage thumbnail = resize(medium, thumbnailSize);
+            variants = new Variants(
+                    fileStorage.saveVariant(encodeJpeg(thumbnail)),
+                    fileStorage.saveVariant(encodeJpeg(medium)));
+
+            if (!attach.test(variants)) {
+                deleteQuietly(variants.thumbnailUrl());
+                deleteQuietly(variants.mediumUrl());
+                return;
+            }
+            System.out.println("이미지 파생본 생성: " + mediaUrl + " ("
+                    + (System.currentTimeMillis() - start) + "ms)");
+        } catch (Exception e) {
+            System.err.println("이미지 파생본 생성 실패 (" + mediaUrl + "): " + e.getMessage());
+            if (variants != null) {
+                deleteQuietly(variants.thumbnailUrl());
+                deleteQuietly(variants.mediumUrl());
+            }
+        }
+    }
+
+    // 긴 변이 중간 크기의 2배 이상이면 디코딩 시 픽셀을 건너뛰며 읽음 (이미지가 아니면 null)
+    private BufferedImage decode(String mediaUrl) throws IOException {
+        try (InputStream in = fileStorage.open(mediaUrl);
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longest / (mediumSize * 2));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변 기준 축소 (확대는 하지 않음), 투명 배경은 흰색으로 채워 RGB 로 변환
+    private static BufferedImage resize(BufferedImage src, int maxSize) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(w, h));
+        int tw = Math.max(1, (int) Math.round(w * scale));
+        int th = Math.max(1, (int) Math.round(h * scale));
+
+        BufferedImage out = new BufferedImage(tw, th, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, tw, th);
+            g.drawImage(src, 0, 0, tw, th, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private void deleteQuietly(String url) {
+        if (url == null) return;
+        try {
+            fileStorage.delete(url);
+        } catch (RuntimeException e) {
+            System.err.println("이미지 파생본 삭제 실패 (" + url + "): " + e.getMessage());
+        }
+    }
+}
@@ -1,21 +1,40 @@
 package com.example.demo.storage;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * 로컬 디스크 저장소 (uploads/media)
+ * - 파일명은 내용의 SHA-256 (<hash>.<ext>) → 같은 내용은 한 번만 저장 (MediaBlobRegistry 가 참조 수 관리)
+ * - 본문은 먼저 .part 파일에 기록하고, 참조 등록(행 잠금) 후 최종 파일이 없을 때만 이름을 바꿔 넣음
+ */
 @Component
 @Profile("local") // local 환경에서만 사용
+@RequiredArgsConstructor
 public class LocalFileStorage implements FileStorage {
 
     private final Path uploadDir = Paths.get("uploads/media");
 
+    private final MediaBlobRegistry blobs;
+
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
     private static final List<String> ALLOWED_TYPES = List.of("image/jpeg", "image/png", "video/mp4");
     private static final List<String> ALLOWED_EXTENSIONS = List.of("jpg", "jpeg", "png", "mp4");
 
@@ -33,21 +52,143 @@ public class LocalFileStorage implements FileStorage {
             }
 
             Files.createDirectories(uploadDir);
-            String newName = UUID.randomUUID() + "." + ext.toLowerCase();
-            Path target = uploadDir.resolve(newName).normalize();
 
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
+            // multipart 임시 파일을 읽어 해시 → 저장소에 없는 내용일 때만 기록
+            String hash = MediaBlobRegistry.sha256(file.getInputStream());
+            return blobs.acquire(hash, "/media/" + hash + "." + ext.toLowerCase(), file.getSize(), url -> {
+                Path target = localPath(url);
+                if (Files.exists(target)) return false;
+                Path part = uploadDir.resolve(UUID.randomUUID() + ".part");
+                try {
+                    // 절대 경로로 넘기면 multipart 임시 파일을 복사 대신 이동(rename)
+                    file.transferTo(part.toAbsolutePath());
+                    Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    deletePart(part);
+                }
+                return true;
+            }, this::deleteFile);
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("파일 저장 실패", e); // ✅ RuntimeException으로 변환
+        }
+    }
+
+    // ✅ 본문을 해시하면서 .part 파일에 바로 기록 → 처음 보는 내용이면 해시 이름으로 이동, 아니면 버림
+    @Override
+    public String saveStream(InputStream body, long contentLength, String contentType, String extension) {
+        Path part = uploadDir.resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = MediaBlobRegistry.newDigest();
+        try {
+            Files.createDirectories(uploadDir);
+            try (ReadableByteChannel src = Channels.newChannel(new DigestInputStream(body, digest));
+                 FileChannel dst = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long written = 0;
+                long n;
+                while ((n = dst.transferFrom(src, written, TRANSFER_CHUNK)) > 0) {
+                    written += n;
+                }
+                if (written != contentLength) {
+                    throw new IOException("업로드가 중간에 끊겼습니다 (" + written + "/" + contentLength + " bytes)");
+                }
+            }
+            String hash = MediaBlobRegistry.hex(digest);
+            return place(part, hash, extension, contentLength);
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("파일 저장 실패", e);
+        } finally {
+            deletePart(part);
+        }
+    }
+
+    // 참조 등록 후 최종 파일이 없으면 .part 를 그 이름으로 이동 (있으면 .part 는 호출자가 삭제)
+    private String place(Path part, String hash, String extension, long size) {
+        return blobs.acquire(hash, "/media/" + hash + "." + extension, size, url -> {
+            Path target = localPath(url);
+            if (Files.exists(target)) return false;
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        }, this::deleteFile);
+    }
+
+    private static void deletePart(Path part) {
+        try {
+            Files.deleteIfExists(part);
+        } catch (IOException ignored) {
+        }
+    }
+
+    // 파일명이 해시(예전 파일은 UUID)라 내용이 바뀌지 않으므로 저장 URL 그대로 사용 (WebConfig 에서 immutable 캐시)
+    @Override
+    public String publicUrl(String url) {
+        return url;
+    }
 
-            return "/media/" + newName;
+    @Override
+    public InputStream open(String url) {
+        try {
+            return Files.newInputStream(uploadDir.resolve(Paths.get(url).getFileName()));
         } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패", e); // ✅ RuntimeException으로 변환
+            throw new RuntimeException("파일 읽기 실패: " + url, e);
         }
     }
 
+    @Override
+    public MediaInfo stat(String url) {
+        Path path = localPath(url);
+        try {
+            if (!Files.isRegularFile(path)) return null;
+            String name = path.getFileName().toString();
+            long length = Files.size(path);
+            // 파일명이 해시/UUID 라 이름 + 크기로 강한 ETag
+            return new MediaInfo(length,
+                    Files.getLastModifiedTime(path).toMillis(),
+                    "\"" + name + "-" + length + "\"",
+                    MediaTypeFactory.getMediaType(name).map(Object::toString).orElse("application/octet-stream"));
+        } catch (IOException e) {
+            throw new RuntimeException("파일 정보 조회 실패: " + url, e);
+        }
+    }
+
+    @Override
+    public InputStream openRange(String url, long start, long length) {
+        try {
+            FileChannel channel = FileChannel.open(localPath(url), StandardOpenOption.READ);
+            channel.position(start);
+            return Channels.newInputStream(channel);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 읽기 실패: " + url, e);
+        }
+    }
+
+    @Override
+    public Path localPath(String url) {
+        return uploadDir.resolve(Paths.get(url).getFileName()).toAbsolutePath();
+    }
+
+    @Override
+    public String saveVariant(byte[] jpeg) {
+        Path part = uploadDir.resolve(UUID.randomUUID() + ".part");
+        try {
+            Files.createDirectories(uploadDir);
+            Files.write(part, jpeg);
+            return place(part, MediaBlobRegistry.sha256(jpeg), "jpg", jpeg.length);
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("파일 저장 실패", e);
+        } finally {
+            deletePart(part);
+        }
+    }
+
+    // ✅ 참조 해제 → 참조가 0 이 되면 커밋 후 파일 삭제 (등록되지 않은 예전 파일은 바로 삭제)
     @Override
     public void delete(String url) {
         if (url == null) return;
+        if (!blobs.release(url, this::deleteFile)) {
+            deleteFile(url);
+        }
+    }
 
+    private void deleteFile(String url) {
         try {
             Path target = uploadDir.resolve(Paths.get(url).getFileName());
             Files.deleteIfExists(target);
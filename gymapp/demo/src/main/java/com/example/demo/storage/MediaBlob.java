@@ -0,0 +1,36 @@
+package com.example.demo.storage;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반 미디어 파일 (SHA-256 → 저장 URL + 참조 수)
+ * - 같은 내용은 한 번만 저장하고, 이를 가리키는 기록 수만큼 refCount 증가
+ * - 참조가 0 이 된 뒤에만 실제 파일 삭제 (MediaBlobRegistry)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "media_blobs")
+public class MediaBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;       // SHA-256 (hex)
+
+    @Column(nullable = false)
+    private String url;        // 저장 URL (/media/<hash>.<ext> 또는 S3 URL)
+
+    private long size;         // 바이트 수
+
+    private int refCount;      // 이 파일을 가리키는 참조 수
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
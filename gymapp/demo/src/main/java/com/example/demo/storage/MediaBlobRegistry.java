@@ -0,0 +1,162 @@
+package com.example.demo.storage;
+
+import com.example.demo.common.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 미디어 중복 제거용 참조 수 관리
+ * - 저장소(Local/S3)는 저장 중에 SHA-256 을 계산하고 acquire 로 참조 등록
+ *   → 참조 행을 먼저 올려 행 잠금을 잡은 뒤, 파일이 없으면 그때 기록 (이미 있는 내용이면 다시 쓰지 않음)
+ *   → 같은 내용을 동시에 올려도 파일이 없는 상태로 참조만 커밋되는 일이 없음
+ * - 호출한 서비스의 트랜잭션에 참여 (커넥션을 하나 더 쓰지 않고, 기록이 롤백되면 참조 수도 함께 롤백)
+ * - release 는 참조 수만 줄이고, 0 이 되어 커밋되면 정리 스레드가 행을 다시 잠근 채 파일 삭제
+ *   (그 사이 같은 내용이 다시 등록됐으면 지우지 않음)
+ * - 해시 이름이 아닌 예전 UUID 파일은 등록돼 있지 않으므로 기존처럼 바로 삭제
+ */
+@Component
+public class MediaBlobRegistry {
+
+    private static final Pattern HASH_NAME = Pattern.compile("[0-9a-f]{64}");
+
+    // 저장소가 구현: url 위치에 파일이 없으면 기록 → 새로 기록했으면 true
+    @FunctionalInterface
+    public interface Placement {
+        boolean placeIfMissing(String url) throws IOException;
+    }
+
+    private final MediaBlobRepository repo;
+    private final TransactionTemplate tx;
+    private final ThreadPoolExecutor purger;
+
+    public MediaBlobRegistry(MediaBlobRepository repo, TransactionTemplate tx) {
+        this.repo = repo;
+        this.tx = tx;
+        // 요청 스레드의 커밋 콜백에서 새 트랜잭션을 열지 않도록 삭제는 별도 스레드에서
+        this.purger = new ThreadPoolExecutor(
+                1, 1,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(10_000),
+                r -> {
+                    Thread t = new Thread(r, "media-blob-purge");
+                    t.setDaemon(true);
+                    return t;
+                },
+                (r, pool) -> System.err.println("미디어 정리 대기열이 가득 차 건너뜀 (참조 0 행은 다음 등록 때 재사용)"));
+        this.purger.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * ✅ 참조 추가 → 실제 저장 URL (이미 있는 내용이면 기존 URL)
+     * - 행 잠금을 잡은 채 placement 로 파일 존재를 확인하고, 없으면 기록
+     * - 호출 트랜잭션이 롤백되면 여기서 새로 기록한 파일은 정리 (다른 참조가 없을 때만)
+     */
+    public String acquire(String hash, String url, long size, Placement placement, Consumer<String> deleteFile) {
+        return tx.execute(s -> {
+            repo.upsertRef(hash, url, size);
+            String stored = repo.findUrlByHash(hash).orElse(url);
+            boolean written;
+            try {
+                written = placement.placeIfMissing(stored);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (written) {
+                AfterCommit.onRollback(() -> purgeLater(hash, stored, deleteFile));
+            }
+            return stored;
+        });
+    }
+
+    /**
+     * ✅ 참조 해제 (호출 트랜잭션 안에서 참조 수만 줄임, 0 이 되어 커밋되면 파일 삭제 예약)
+     * @return 해시 이름 파일이면 true, 등록 대상이 아닌 예전 URL 이면 false (호출자가 직접 삭제)
+     */
+    public boolean release(String url, Consumer<String> deleteFile) {
+        String hash = hashOf(url);
+        if (hash == null) return false;
+        tx.executeWithoutResult(s -> {
+            if (repo.decrementRef(hash) == 0) return; // 등록되지 않았거나 이미 0
+            if (repo.findRefCount(hash).orElse(0) == 0) {
+                AfterCommit.run(() -> purgeLater(hash, url, deleteFile));
+            }
+        });
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purger.shutdown();
+    }
+
+    private void purgeLater(String hash, String url, Consumer<String> deleteFile) {
+        purger.execute(() -> purge(hash, url, deleteFile));
+    }
+
+    // 행을 잠근 뒤 참조가 없을 때만 파일 → 행 순서로 삭제 (행이 없으면 잠금으로 새 등록을 막은 채 파일만 삭제)
+    private void purge(String hash, String url, Consumer<String> deleteFile) {
+        try {
+            tx.executeWithoutResult(s -> {
+                MediaBlob blob = repo.findForUpdate(hash).orElse(null);
+                if (blob != null && blob.getRefCount() > 0) return;
+                deleteFile.accept(blob != null ? blob.getUrl() : url);
+                if (blob != null) repo.delete(blob);
+            });
+        } catch (RuntimeException e) {
+            System.err.println("미디어 파일 정리 실패 (" + url + "): " + e.getMessage());
+        }
+    }
+
+    // URL 파일명이 <sha256>.<ext> 형식이면 해시, 아니면 null
+    static String hashOf(String url) {
+        if (url == null) return null;
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        int dot = name.indexOf('.');
+        String base = dot < 0 ? name : name.substring(0, dot);
+        return HASH_NAME.matcher(base).matches() ? base : null;
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String sha256(byte[] data) {
+        MessageDigest digest = newDigest();
+        digest.update(data);
+        return hex(digest);
+    }
+
+    // 스트림 전체를 읽어 해시 (multipart 임시 파일처럼 다시 읽을 수 있는 경우)
+    public static String sha256(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        try (in) {
+            byte[] buf = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                digest.update(buf, 0, n);
+            }
+        }
+        return hex(digest);
+    }
+}
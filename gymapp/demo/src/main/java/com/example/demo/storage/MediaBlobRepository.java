@@ -0,0 +1,37 @@
+package com.example.demo.storage;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlob, String> {
+
+    // 참조 추가 (없으면 refCount 1 로 생성) - 행 잠금은 트랜잭션이 끝날 때까지 유지
+    @Modifying
+    @Query(value = "INSERT INTO media_blobs (hash, url, size, ref_count, created_at) " +
+                   "VALUES (:hash, :url, :size, 1, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+           nativeQuery = true)
+    int upsertRef(@Param("hash") String hash, @Param("url") String url, @Param("size") long size);
+
+    @Query("SELECT b.url FROM MediaBlob b WHERE b.hash = :hash")
+    Optional<String> findUrlByHash(@Param("hash") String hash);
+
+    // 참조 해제 (관리 엔티티 대신 UPDATE 한 번 → 같은 트랜잭션의 upsertRef 와 값이 엇갈리지 않음)
+    @Modifying
+    @Query("UPDATE MediaBlob b SET b.refCount = b.refCount - 1 WHERE b.hash = :hash AND b.refCount > 0")
+    int decrementRef(@Param("hash") String hash);
+
+    @Query("SELECT b.refCount FROM MediaBlob b WHERE b.hash = :hash")
+    Optional<Integer> findRefCount(@Param("hash") String hash);
+
+    // 파일 정리용 (행 잠금 → 같은 내용의 새 등록과 삭제가 엇갈리지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM MediaBlob b WHERE b.hash = :hash")
+    Optional<MediaBlob> findForUpdate(@Param("hash") String hash);
+}
@@ -0,0 +1,214 @@
+package com.example.demo.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미디어 구간 전송 (영상 탐색용)
+ * - Range: 단일 구간은 206, 여러 구간은 multipart/byteranges, 범위를 벗어나면 416
+ * - If-Range 가 현재 ETag / Last-Modified 와 다르면 Range 를 무시하고 전체(200) 전송
+ * - If-None-Match / If-Modified-Since 가 맞으면 304
+ * - 로컬 파일: Tomcat sendfile 로 커널이 직접 전송 (지원하지 않으면 FileChannel.transferTo)
+ * - S3: 구간마다 Range GET 으로 요청한 바이트만 내려받아 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class MediaRangeServer {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileStorage fileStorage;
+
+    // ✅ 저장 URL 의 파일을 요청 헤더에 맞춰 전송
+    public void serve(String url, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        FileStorage.MediaInfo info = fileStorage.stat(url);
+        if (info == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 조건부 요청 (ETag / Last-Modified 헤더도 여기서 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(info.etag(), info.lastModified())) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(5, TimeUnit.MINUTES).cachePrivate().getHeaderValue());
+
+        long length = info.length();
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), info)) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(info.contentType());
+            response.setContentLengthLong(length);
+            writeSingle(url, 0, length, request, response);
+            return;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            unsatisfiable(response, length);
+            return;
+        }
+        if (ranges.isEmpty()) {
+            unsatisfiable(response, length);
+            return;
+        }
+
+        long[][] bounds = new long[ranges.size()][];
+        long total = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            try {
+                long start = ranges.get(i).getRangeStart(length);
+                long end = ranges.get(i).getRangeEnd(length);
+                if (start >= length) { // 파일 끝 이후에서 시작 (bytes=100- / bytes=-0) → 만족할 수 없음
+                    unsatisfiable(response, length);
+                    return;
+                }
+                bounds[i] = new long[]{start, end};
+                total += end - start + 1;
+            } catch (IllegalArgumentException e) {
+                unsatisfiable(response, length);
+                return;
+            }
+        }
+        // 겹치는 구간으로 파일보다 많이 보내게 하는 요청은 거부
+        if (total > length) {
+            unsatisfiable(response, length);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (bounds.length == 1) {
+            long start = bounds[0][0];
+            long end = bounds[0][1];
+            response.setContentType(info.contentType());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            response.setContentLengthLong(end - start + 1);
+            writeSingle(url, start, end - start + 1, request, response);
+            return;
+        }
+        writeMultipart(url, info, bounds, request, response);
+    }
+
+    // If-Range: ETag 는 강한 비교, 날짜는 초 단위 일치 (형식이 잘못되면 전체 전송)
+    private static boolean ifRangeMatches(String ifRange, FileStorage.MediaInfo info) {
+        if (ifRange == null) return true;
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return !value.startsWith("W/") && value.equals(info.etag());
+        }
+        try {
+            long date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return info.lastModified() >= 0 && date / 1000 == info.lastModified() / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static void unsatisfiable(HttpServletResponse response, long length) {
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+        response.setContentLength(0);
+    }
+
+    // 단일 구간: 로컬 + sendfile 지원이면 본문을 쓰지 않고 Tomcat 에 위임
+    private void writeSingle(String url, long start, long count,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if ("HEAD".equals(request.getMethod()) || count == 0) return;
+
+        Path local = fileStorage.localPath(url);
+        if (local != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, local.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        copy(url, local, start, count, response.getOutputStream());
+    }
+
+    private void writeMultipart(String url, FileStorage.MediaInfo info, long[][] bounds,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String boundary = UUID.randomUUID().toString();
+        byte[][] partHeaders = new byte[bounds.length][];
+        long contentLength = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            partHeaders[i] = ("\r\n--" + boundary + "\r\n"
+                    + "Content-Type: " + info.contentType() + "\r\n"
+                    + "Content-Range: bytes " + bounds[i][0] + "-" + bounds[i][1] + "/" + info.length() + "\r\n"
+                    + "\r\n").getBytes(StandardCharsets.US_ASCII);
+            contentLength += partHeaders[i].length + (bounds[i][1] - bounds[i][0] + 1);
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+        if ("HEAD".equals(request.getMethod())) return;
+
+        Path local = fileStorage.localPath(url);
+        OutputStream out = response.getOutputStream();
+        for (int i = 0; i < bounds.length; i++) {
+            out.write(partHeaders[i]);
+            copy(url, local, bounds[i][0], bounds[i][1] - bounds[i][0] + 1, out);
+        }
+        out.write(closing);
+    }
+
+    // 로컬은 FileChannel.transferTo, S3 는 구간 GET 스트림 복사
+    private void copy(String url, Path local, long start, long count, OutputStream out) throws IOException {
+        if (local != null) {
+            try (FileChannel channel = FileChannel.open(local, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = start;
+                long end = start + count;
+                while (position < end) {
+                    long n = channel.transferTo(position, end - position, target);
+                    if (n <= 0) throw new IOException("파일이 예상보다 짧습니다: " + url);
+                    position += n;
+                }
+            }
+            return;
+        }
+        try (InputStream in = fileStorage.openRange(url, start, count)) {
+            byte[] buf = new byte[BUFFER_SIZE];
+            long remaining = count;
+            while (remaining > 0) {
+                int n = in.read(buf, 0, (int) Math.min(buf.length, remaining));
+                if (n < 0) throw new IOException("파일이 예상보다 짧습니다: " + url);
+                out.write(buf, 0, n);
+                remaining -= n;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.storage;
+
+import com.example.demo.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 기록에 연결되지 않은 업로드 (/api/files)
+ * - 업로드 하나가 미디어 참조 하나를 가짐 → 기록에 연결되면 행만 지우고 참조는 기록이 넘겨받음
+ * - 올린 사람만 삭제 / 연결할 수 있음 (다른 사용자가 같은 내용의 참조 수를 줄이지 못하도록)
+ * - 오래 연결되지 않은 업로드는 MediaUploadRetention 이 참조와 함께 정리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "media_uploads",
+        indexes = @Index(name = "idx_media_upload_url_uploader", columnList = "url, uploader_id"))
+public class MediaUpload extends BaseEntity {
+
+    @Column(nullable = false)
+    private String url;          // 저장 URL (FileStorage)
+
+    @Column(nullable = false)
+    private Long uploaderId;     // 올린 사용자
+
+    private String contentType;  // 검증된 MIME 타입
+
+    @Builder
+    public MediaUpload(String url, Long uploaderId, String contentType) {
+        this.url = url;
+        this.uploaderId = uploaderId;
+        this.contentType = contentType;
+    }
+}
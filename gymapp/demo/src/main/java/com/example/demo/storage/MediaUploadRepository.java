@@ -0,0 +1,17 @@
+package com.example.demo.storage;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaUploadRepository extends JpaRepository<MediaUpload, Long> {
+
+    // 같은 사용자가 같은 내용을 여러 번 올렸으면 그중 하나
+    Optional<MediaUpload> findFirstByUrlAndUploaderId(String url, Long uploaderId);
+
+    // 오래된 업로드부터 (정리 배치용)
+    List<MediaUpload> findByCreatedAtBeforeOrderByIdAsc(LocalDateTime cutoff, Pageable pageable);
+}
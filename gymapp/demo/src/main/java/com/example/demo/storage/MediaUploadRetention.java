@@ -0,0 +1,56 @@
+package com.example.demo.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기록에 연결되지 않은 업로드 정리
+ * - retention-hours 가 지난 업로드는 행을 지우고 참조를 해제 (마지막 참조면 파일도 삭제)
+ * - batch-size 건씩 나눠 처리 (배치마다 별도 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+public class MediaUploadRetention {
+
+    private final MediaUploadRepository uploadRepo;
+    private final FileStorage fileStorage;
+    private final TransactionTemplate tx;
+
+    @Value("${app.media.upload-retention-hours:24}")
+    private int retentionHours;
+
+    @Value("${app.media.upload-retention-batch-size:500}")
+    private int batchSize;
+
+    // ✅ 주기적으로 정리 (기본 1시간)
+    @Scheduled(initialDelayString = "${app.media.upload-retention-ms:3600000}",
+               fixedDelayString = "${app.media.upload-retention-ms:3600000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        long total = 0;
+        int purged;
+        do {
+            Integer n = tx.execute(status -> {
+                List<MediaUpload> stale = uploadRepo.findByCreatedAtBeforeOrderByIdAsc(cutoff, PageRequest.of(0, batchSize));
+                for (MediaUpload upload : stale) {
+                    uploadRepo.delete(upload);
+                    fileStorage.delete(upload.getUrl());
+                }
+                return stale.size();
+            });
+            purged = n != null ? n : 0;
+            total += purged;
+        } while (purged == batchSize);
+
+        if (total > 0) {
+            System.out.println("연결되지 않은 업로드 정리: " + total + "건 (기준 " + cutoff + ")");
+        }
+    }
+}
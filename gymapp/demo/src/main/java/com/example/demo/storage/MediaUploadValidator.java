@@ -0,0 +1,154 @@
+package com.example.demo.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 스트리밍 업로드 검증
+ * - 요청 헤더(Content-Type / Content-Length)는 본문을 읽기 전에 확인
+ * - 본문은 읽는 동안 확인: 앞부분 바이트가 선언한 형식과 맞는지, 최대 크기를 넘지 않는지
+ * - 위반 시 스트림이 IOException 으로 끊기고 violation() 에 사유가 남음 (저장 중인 파일은 저장소가 정리)
+ */
+@Component
+public class MediaUploadValidator {
+
+    // 허용 MIME 타입 → 저장 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "video/mp4", "mp4");
+
+    private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] MP4_BOX = {'f', 't', 'y', 'p'}; // 4번째 바이트부터
+
+    private static final int HEAD_SIZE = 12;
+
+    private final long maxBytes;
+
+    public MediaUploadValidator(@Value("${spring.servlet.multipart.max-file-size:50MB}") DataSize maxFileSize) {
+        this.maxBytes = maxFileSize.toBytes();
+    }
+
+    // ✅ 헤더 검증 → 정규화된 MIME 타입 (파라미터 제거, 소문자)
+    public String checkHeaders(String contentType, long contentLength) {
+        if (contentType == null) {
+            throw new IllegalArgumentException("Content-Type 이 필요합니다.");
+        }
+        String type = contentType.split(";")[0].trim().toLowerCase();
+        if (!EXTENSIONS.containsKey(type)) {
+            throw new IllegalArgumentException("허용되지 않은 파일 타입: " + type);
+        }
+        if (contentLength <= 0) {
+            throw new IllegalArgumentException("Content-Length 가 필요합니다.");
+        }
+        if (contentLength > maxBytes) {
+            throw new IllegalArgumentException("파일 크기 초과 (최대 " + maxBytes + " bytes)");
+        }
+        return type;
+    }
+
+    public String extensionOf(String type) {
+        return EXTENSIONS.get(type);
+    }
+
+    // ✅ 본문을 읽으면서 검증하는 스트림
+    public CheckedInputStream wrap(InputStream body, String type) {
+        return new CheckedInputStream(body, type, maxBytes);
+    }
+
+    private static boolean matches(String type, byte[] head, int len) {
+        return switch (type) {
+            case "image/jpeg" -> startsWith(head, len, 0, JPEG_MAGIC);
+            case "image/png" -> startsWith(head, len, 0, PNG_MAGIC);
+            case "video/mp4" -> startsWith(head, len, 4, MP4_BOX);
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] head, int len, int offset, byte[] magic) {
+        if (len < offset + magic.length) return false;
+        for (int i = 0; i < magic.length; i++) {
+            if (head[offset + i] != magic[i]) return false;
+        }
+        return true;
+    }
+
+    public static final class CheckedInputStream extends FilterInputStream {
+
+        private final String type;
+        private final long maxBytes;
+        private final byte[] head = new byte[HEAD_SIZE];
+        private int headLen;
+        private boolean verified;
+        private long count;
+        private volatile String violation;
+
+        private CheckedInputStream(InputStream in, String type, long maxBytes) {
+            super(in);
+            this.type = type;
+            this.maxBytes = maxBytes;
+        }
+
+        public String violation() {
+            return violation;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return n < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n < 0) {
+                if (!verified) verify();
+                return n;
+            }
+            count += n;
+            if (count > maxBytes) {
+                fail("파일 크기 초과 (최대 " + maxBytes + " bytes)");
+            }
+            if (!verified) {
+                int take = Math.min(n, HEAD_SIZE - headLen);
+                System.arraycopy(b, off, head, headLen, take);
+                headLen += take;
+                if (headLen == HEAD_SIZE) verify();
+            }
+            return n;
+        }
+
+        // 검증 전에 건너뛰면 형식 확인을 못 하므로 skip 은 read 로 처리
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] buf = new byte[(int) Math.min(n, 8192)];
+            int read = read(buf, 0, buf.length);
+            return Math.max(read, 0);
+        }
+
+        private void verify() throws IOException {
+            verified = true;
+            if (!matches(type, head, headLen)) {
+                fail("파일 내용이 형식(" + type + ")과 맞지 않습니다.");
+            }
+        }
+
+        private void fail(String reason) throws IOException {
+            violation = reason;
+            throw new IOException(reason);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.storage;
+
+import com.example.demo.common.AfterCommit;
+import com.example.demo.common.BoundedLruCache;
+import com.example.demo.storage.dto.MediaRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 기록 id → (소유 회원 id, 저장된 미디어 URL) 캐시 (예전 미리보기 주소 /api/…/{logId}/media 용)
+ * - 소유 회원도 함께 캐시 → 권한 확인까지 DB 를 거치지 않음
+ * - 미디어가 없는 기록도 캐시해 같은 id 를 반복 조회하지 않음 (없는 기록은 캐시하지 않음)
+ * - 기록 생성/수정/삭제가 커밋된 뒤 해당 항목만 제거
+ */
+@Component
+public class MediaUrlCache {
+
+    public static final String WORKOUT = "workout";
+    public static final String DIET = "diet";
+
+    private final BoundedLruCache<String, MediaRef> cache;
+
+    // evict 가 일어날 때마다 증가 → 조회 도중 무효화된 값은 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public MediaUrlCache(@Value("${app.media.lookup-cache-size:10000}") int maxSize) {
+        this.cache = new BoundedLruCache<>(maxSize);
+    }
+
+    // ✅ 소유 회원 + 저장 URL (기록이 없으면 empty)
+    public Optional<MediaRef> find(String kind, Long logId, Function<Long, Optional<MediaRef>> loader) {
+        String key = kind + ":" + logId;
+        MediaRef cached = cache.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long gen = generation.get();
+        Optional<MediaRef> loaded = loader.apply(logId);
+        loaded.ifPresent(ref -> {
+            if (generation.get() == gen) {
+                cache.put(key, ref);
+            }
+        });
+        return loaded;
+    }
+
+    public void evict(String kind, Long logId) {
+        generation.incrementAndGet();
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            cache.remove(kind + ":" + logId);
+        });
+    }
+}
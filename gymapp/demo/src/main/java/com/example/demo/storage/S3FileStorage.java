@@ -6,50 +6,217 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import com.example.demo.common.BoundedLruCache;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.util.UUID;
 
+/**
+ * S3 저장소
+ * - 객체 키는 내용의 SHA-256 (uploads/<hash>.<ext>) → 같은 내용은 한 번만 업로드 (MediaBlobRegistry 가 참조 수 관리)
+ * - 참조 등록(행 잠금) 후 해시 키 객체가 없을 때만 업로드 / 복사
+ */
 @Component
 @Profile("prod") // prod 환경에서만 사용
 public class S3FileStorage implements FileStorage {
 
     private final S3Client s3Client;
+    private final MediaBlobRegistry blobs;
+    private final S3Presigner presigner;
     private final String bucket;
+    private final Duration urlTtl;
+
+    // 서명 URL 재사용 (같은 URL 이 이어지면 브라우저 캐시도 그대로 적중)
+    private record SignedUrl(String url, long expiresAtMs) {}
+    private final BoundedLruCache<String, SignedUrl> signedUrls;
 
     public S3FileStorage(S3Client s3Client,
-                         @Value("${cloud.aws.s3.bucket}") String bucket) {
+                         MediaBlobRegistry blobs,
+                         S3Presigner presigner,
+                         @Value("${cloud.aws.s3.bucket}") String bucket,
+                         @Value("${app.media.url-ttl-minutes:60}") long urlTtlMinutes,
+                         @Value("${app.media.signed-url-cache-size:10000}") int cacheSize) {
         this.s3Client = s3Client;
+        this.blobs = blobs;
+        this.presigner = presigner;
         this.bucket = bucket;
+        this.urlTtl = Duration.ofMinutes(urlTtlMinutes);
+        this.signedUrls = new BoundedLruCache<>(cacheSize);
     }
 
     @Override
     public String save(MultipartFile file) {
         try {
             String ext = getExtension(file.getOriginalFilename());
-            String key = "uploads/" + UUID.randomUUID() + "." + ext;
 
+            // multipart 임시 파일을 먼저 해시 → 버킷에 없는 내용일 때만 업로드
+            String hash = MediaBlobRegistry.sha256(file.getInputStream());
+            return blobs.acquire(hash, urlOf(keyOf(hash, ext)), file.getSize(), url -> {
+                String key = keyOf(url);
+                if (exists(key)) return false;
+                PutObjectRequest putReq = PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(file.getContentType())
+                        .build();
+                s3Client.putObject(putReq, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+                return true;
+            }, this::deleteStored);
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("S3 업로드 실패", e); // ✅ RuntimeException 변환
+        }
+    }
+
+    /**
+     * ✅ 요청 본문을 해시하면서 임시 키로 바로 전송 (로컬 임시 파일 없음)
+     * → 해시 키 객체가 없으면 서버 측 복사로 옮기고, 이미 있으면 임시 객체만 삭제
+     */
+    @Override
+    public String saveStream(InputStream body, long contentLength, String contentType, String extension) {
+        String tempKey = "uploads/tmp/" + UUID.randomUUID();
+        MessageDigest digest = MediaBlobRegistry.newDigest();
+
+        PutObjectRequest putReq = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(tempKey)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        try {
+            s3Client.putObject(putReq, RequestBody.fromInputStream(new DigestInputStream(body, digest), contentLength));
+            String hash = MediaBlobRegistry.hex(digest);
+            return blobs.acquire(hash, urlOf(keyOf(hash, extension)), contentLength, url -> {
+                String key = keyOf(url);
+                if (exists(key)) return false;
+                s3Client.copyObject(CopyObjectRequest.builder()
+                        .sourceBucket(bucket)
+                        .sourceKey(tempKey)
+                        .destinationBucket(bucket)
+                        .destinationKey(key)
+                        .build());
+                return true;
+            }, this::deleteStored);
+        } finally {
+            deleteObject(tempKey);
+        }
+    }
+
+    // ✅ 기한이 있는 GET 서명 URL (남은 기한이 절반 이하가 되면 새로 서명)
+    @Override
+    public String publicUrl(String url) {
+        if (url == null) return null;
+        int idx = url.indexOf("uploads/");
+        if (idx < 0) return url;
+        String key = url.substring(idx);
+
+        long now = System.currentTimeMillis();
+        SignedUrl cached = signedUrls.get(key);
+        if (cached != null && cached.expiresAtMs() - now > urlTtl.toMillis() / 2) {
+            return cached.url();
+        }
+        GetObjectPresignRequest req = GetObjectPresignRequest.builder()
+                .signatureDuration(urlTtl)
+                .getObjectRequest(b -> b.bucket(bucket).key(key))
+                .build();
+        String signed = presigner.presignGetObject(req).url().toString();
+        signedUrls.put(key, new SignedUrl(signed, now + urlTtl.toMillis()));
+        return signed;
+    }
+
+    @Override
+    public InputStream open(String url) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(url.substring(url.indexOf("uploads/")))
+                .build());
+    }
+
+    @Override
+    public MediaInfo stat(String url) {
+        String key = url.substring(url.indexOf("uploads/"));
+        try {
+            HeadObjectResponse head = s3Client.headObject(b -> b.bucket(bucket).key(key));
+            return new MediaInfo(head.contentLength(),
+                    head.lastModified() != null ? head.lastModified().toEpochMilli() : -1,
+                    head.eTag(),
+                    head.contentType() != null ? head.contentType() : "application/octet-stream");
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+    }
+
+    // ✅ 요청한 구간만 내려받음 (Range GET)
+    @Override
+    public InputStream openRange(String url, long start, long length) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(url.substring(url.indexOf("uploads/")))
+                .range("bytes=" + start + "-" + (start + length - 1))
+                .build());
+    }
+
+    @Override
+    public Path localPath(String url) {
+        return null;
+    }
+
+    // 파생 이미지는 내용이 바뀌지 않으므로 immutable 캐시 헤더와 함께 저장
+    @Override
+    public String saveVariant(byte[] jpeg) {
+        String hash = MediaBlobRegistry.sha256(jpeg);
+        return blobs.acquire(hash, urlOf(keyOf(hash, "jpg")), jpeg.length, url -> {
+            String key = keyOf(url);
+            if (exists(key)) return false;
             PutObjectRequest putReq = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
-                    .contentType(file.getContentType())
+                    .contentType("image/jpeg")
+                    .cacheControl("public, max-age=31536000, immutable")
                     .build();
-
-            s3Client.putObject(putReq, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
-            return "https://" + bucket + ".s3.amazonaws.com/" + key;
-        } catch (IOException e) {
-            throw new RuntimeException("S3 업로드 실패", e); // ✅ RuntimeException 변환
-        }
+            s3Client.putObject(putReq, RequestBody.fromBytes(jpeg));
+            return true;
+        }, this::deleteStored);
     }
 
+    // ✅ 참조 해제 → 참조가 0 이 되면 커밋 후 객체 삭제 (등록되지 않은 예전 객체는 바로 삭제)
     @Override
     public void delete(String url) {
         if (url == null) return;
+        if (!blobs.release(url, this::deleteStored)) {
+            deleteStored(url);
+        }
+    }
 
-        String key = url.substring(url.indexOf("uploads/"));
+    private boolean exists(String key) {
+        try {
+            s3Client.headObject(b -> b.bucket(bucket).key(key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    private void deleteStored(String url) {
+        deleteObject(keyOf(url));
+    }
+
+    private void deleteObject(String key) {
         DeleteObjectRequest delReq = DeleteObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
@@ -58,6 +225,18 @@ public class S3FileStorage implements FileStorage {
         s3Client.deleteObject(delReq);
     }
 
+    private static String keyOf(String url) {
+        return url.substring(url.indexOf("uploads/"));
+    }
+
+    private static String keyOf(String hash, String ext) {
+        return "uploads/" + hash + (ext == null || ext.isEmpty() ? "" : "." + ext);
+    }
+
+    private String urlOf(String key) {
+        return "https://" + bucket + ".s3.amazonaws.com/" + key;
+    }
+
     private String getExtension(String filename) {
         if (filename == null || !filename.contains(".")) return "";
         return filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
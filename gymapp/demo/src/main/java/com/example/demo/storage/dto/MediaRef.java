@@ -0,0 +1,6 @@
+package com.example.demo.storage.dto;
+
+public record MediaRef(
+        Long ownerId, // 기록 소유 회원 id (권한 확인용)
+        String url    // 저장 URL (미디어가 없으면 null)
+) {}
@@ -40,8 +40,8 @@ public class UploadController {
             String newFilename = UUID.randomUUID().toString() + extension;
             Path targetPath = Paths.get(UPLOAD_DIR).resolve(newFilename);
 
-            // 저장
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+            // 저장 (절대 경로로 넘기면 multipart 임시 파일을 복사 대신 이동)
+            file.transferTo(targetPath.toAbsolutePath().toFile());
 
             // URL 형태 반환 (ex: http://localhost:7777/uploads/파일명)
             String fileUrl = "/uploads/" + newFilename;
@@ -8,7 +8,8 @@ import lombok.*;
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 @Entity
-@Table(name = "workout_logs")
+@Table(name = "workout_logs",
+       indexes = @Index(name = "idx_workout_log_member_created", columnList = "member_id, created_at"))
 public class WorkoutLog extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -20,4 +21,7 @@ public class WorkoutLog extends BaseEntity {
 
     private String mediaUrl;  // 업로드된 사진/영상의 저장 경로
     private String mediaType; // IMAGE / VIDEO
+
+    private String thumbnailUrl; // 목록용 썸네일 (업로드 후 비동기 생성, 생성 전/영상이면 null)
+    private String mediumUrl;    // 상세 화면용 중간 크기
 }
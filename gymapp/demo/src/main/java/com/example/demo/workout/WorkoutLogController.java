@@ -2,6 +2,9 @@ package com.example.demo.workout;
 
 import com.example.demo.workout.dto.WorkoutLogRequest;
 import com.example.demo.workout.dto.WorkoutLogResponse;
+import com.example.demo.common.CountMode;
+import com.example.demo.common.CursorPage;
+import com.example.demo.common.SliceResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,7 +18,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import com.example.demo.auth.UserPrincipal;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import jakarta.persistence.EntityNotFoundException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,7 +28,6 @@ import java.util.List;
 public class WorkoutLogController {
 
     private final WorkoutLogService service;
-    private final WorkoutLogRepository repo;  // ✨ 추가
 
     // ✅ 생성
     @PostMapping
@@ -43,28 +44,7 @@ public class WorkoutLogController {
     // ✨ 단일 운동 조회 (새로 추가!)
     @GetMapping("/detail/{id}")
     public ResponseEntity<WorkoutLogResponse> getById(@PathVariable Long id) {
-        WorkoutLog log = repo.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("운동 기록을 찾을 수 없습니다: " + id));
-        
-        // 권한 체크
-        service.checkReadPermission(log.getMember().getId());
-        
-        // 응답 생성
-        String previewUrl = (log.getMediaUrl() != null)
-                ? "/api/workout-logs/" + log.getId() + "/media"
-                : null;
-        
-        WorkoutLogResponse response = new WorkoutLogResponse(
-                log.getId(),
-                log.getMember().getId(),
-                log.getTitle(),
-                log.getContent(),
-                previewUrl,
-                log.getMediaType(),
-                log.getCreatedAt()
-        );
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(service.getDetail(id));
     }
 
     // ✅ 회원별 조회
@@ -73,6 +53,14 @@ public class WorkoutLogController {
         return service.listByMember(memberId);
     }
 
+    // ✅ 회원별 조회 (커서 페이지, 최신순 / 응답의 nextCursor 로 이어서 조회)
+    @GetMapping("/member/{memberId}/page")
+    public CursorPage<WorkoutLogResponse> listByMemberPage(@PathVariable Long memberId,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        return service.listByMemberPage(memberId, cursor, size);
+    }
+
     // ✅ 전체 조회
     @GetMapping
     public Page<WorkoutLogResponse> list(@RequestParam(defaultValue = "0") int page,
@@ -81,19 +69,20 @@ public class WorkoutLogController {
         return service.findAll(pageable);
     }
 
-    // ✅ 검색/필터링
+    // ✅ 검색/필터링 (기본은 COUNT 없이 hasNext 만, count=APPROX|EXACT 로 전체 건수 요청)
     @GetMapping("/search")
-    public Page<WorkoutLogResponse> search(
+    public SliceResponse<WorkoutLogResponse> search(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long memberId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
             @RequestParam(required = false) String mediaType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "NONE") CountMode count
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return service.search(keyword, memberId, fromDate, toDate, mediaType, pageable);
+        return service.search(keyword, memberId, fromDate, toDate, mediaType, pageable, count);
     }
 
     // ✅ 수정
@@ -102,8 +91,9 @@ public class WorkoutLogController {
     public WorkoutLogResponse update(@PathVariable Long logId,
                                      @RequestParam String title,
                                      @RequestParam String content,
-                                     @RequestParam(required = false) MultipartFile media) {
-        return service.update(logId, new WorkoutLogRequest(title, content, media, null));
+                                     @RequestParam(required = false) MultipartFile media,
+                                     @RequestParam(required = false) String mediaUrl) {
+        return service.update(logId, new WorkoutLogRequest(title, content, media, mediaUrl, null));
     }
 
     // ✅ 삭제
@@ -1,27 +1,63 @@
 package com.example.demo.workout;
 
+import com.example.demo.storage.dto.MediaRef;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, Long> {
 
     List<WorkoutLog> findByMemberId(Long memberId);
 
-    // 🔍 검색/필터링
-    @Query("""
-        SELECT l FROM WorkoutLog l
+    // 미디어 요청용 (엔티티 대신 소유 회원 id + mediaUrl 컬럼만 → MediaUrlCache 에 캐시)
+    @Query("SELECT new com.example.demo.storage.dto.MediaRef(l.member.id, l.mediaUrl) FROM WorkoutLog l WHERE l.id = :id")
+    Optional<MediaRef> findMediaRefById(@Param("id") Long id);
+
+    // ✅ 이미지 파생본 URL 기록 (생성 작업자 스레드에서 호출, 그 사이 원본이 바뀌었으면 0건)
+    @Transactional
+    @Modifying
+    @Query("UPDATE WorkoutLog l SET l.thumbnailUrl = :thumbnailUrl, l.mediumUrl = :mediumUrl " +
+           "WHERE l.id = :id AND l.mediaUrl = :mediaUrl")
+    int updateVariants(@Param("id") Long id,
+                       @Param("mediaUrl") String mediaUrl,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl);
+
+    // ✅ 회원별 키셋 페이지 (최신순, cursorAt/cursorId 가 null 이면 첫 페이지)
+    @Query("SELECT l FROM WorkoutLog l WHERE l.member.id = :memberId " +
+           "AND (:cursorId IS NULL OR l.createdAt < :cursorAt " +
+           "     OR (l.createdAt = :cursorAt AND l.id < :cursorId)) " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    List<WorkoutLog> findPageByMemberId(@Param("memberId") Long memberId,
+                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+
+    // 🔍 검색/필터링 조건 (목록 / Slice / COUNT 공통)
+    String SEARCH_WHERE = """
         WHERE (:keyword IS NULL OR l.title LIKE %:keyword% OR l.content LIKE %:keyword%)
           AND (:memberId IS NULL OR l.member.id = :memberId)
           AND (:fromDate IS NULL OR l.createdAt >= :fromDate)
           AND (:toDate IS NULL OR l.createdAt <= :toDate)
           AND (:mediaType IS NULL OR l.mediaType = :mediaType)
-    """)
+    """;
+
+    // 🔍 검색/필터링 (COUNT 포함)
+    @Query("SELECT l FROM WorkoutLog l " + SEARCH_WHERE)
     Page<WorkoutLog> search(
             @Param("keyword") String keyword,
             @Param("memberId") Long memberId,
@@ -31,6 +67,42 @@ public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, Long> {
             Pageable pageable
     );
 
+    // 🔍 검색/필터링 (COUNT 없이 size + 1 건만 조회)
+    @Query("SELECT l FROM WorkoutLog l " + SEARCH_WHERE)
+    Slice<WorkoutLog> searchSlice(
+            @Param("keyword") String keyword,
+            @Param("memberId") Long memberId,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate,
+            @Param("mediaType") String mediaType,
+            Pageable pageable
+    );
+
+    @Query("SELECT COUNT(l) FROM WorkoutLog l " + SEARCH_WHERE)
+    long countSearch(
+            @Param("keyword") String keyword,
+            @Param("memberId") Long memberId,
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate,
+            @Param("mediaType") String mediaType
+    );
+
+    // 🔍 키워드 검색 (SearchIndex 가 찾은 id 안에서 나머지 조건 필터링)
+    @Query("SELECT l FROM WorkoutLog l WHERE l.id IN :ids AND (:mediaType IS NULL OR l.mediaType = :mediaType)")
+    Page<WorkoutLog> findByIdInAndMediaType(@Param("ids") Collection<Long> ids,
+                                            @Param("mediaType") String mediaType,
+                                            Pageable pageable);
+
+    @Query("SELECT l FROM WorkoutLog l WHERE l.id IN :ids AND (:mediaType IS NULL OR l.mediaType = :mediaType)")
+    Slice<WorkoutLog> findSliceByIdInAndMediaType(@Param("ids") Collection<Long> ids,
+                                                  @Param("mediaType") String mediaType,
+                                                  Pageable pageable);
+
+    // 🔍 검색 색인 재구축용 (id, memberId, createdAt, title, content)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT l.id, l.member.id, l.createdAt, l.title, l.content FROM WorkoutLog l")
+    Stream<Object[]> streamSearchRows();
+
     // 📊 통계 API
     long countByMemberId(Long memberId);
 
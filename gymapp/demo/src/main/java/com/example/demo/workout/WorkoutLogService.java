@@ -1,38 +1,64 @@
 package com.example.demo.workout;
 
 import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.ApproximateCountCache;
+import com.example.demo.common.CountMode;
+import com.example.demo.common.CursorPage;
+import com.example.demo.common.KeysetCursor;
+import com.example.demo.common.SliceResponse;
 import com.example.demo.common.enums.Role;
 import com.example.demo.member.Member;
+import com.example.demo.member.MemberOwnershipIndex;
 import com.example.demo.member.MemberRepository;
+import com.example.demo.member.dto.MemberOwnership;
 import com.example.demo.notification.NotificationService;
 import com.example.demo.notification.NotificationType;
+import com.example.demo.search.SearchDocType;
+import com.example.demo.search.SearchIndex;
+import com.example.demo.search.SearchIndexer;
+import com.example.demo.storage.FileService;
 import com.example.demo.storage.FileStorage;
+import com.example.demo.storage.ImageVariantGenerator;
+import com.example.demo.storage.MediaUrlCache;
 import com.example.demo.workout.dto.WorkoutLogRequest;
 import com.example.demo.workout.dto.WorkoutLogResponse;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class WorkoutLogService {
 
+    // 키워드 검색 시 색인 결과로 처리할 최대 건수 (넘으면 DB LIKE 검색으로)
+    private static final int MAX_KEYWORD_CANDIDATES = 5000;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final WorkoutLogRepository logRepo;
     private final MemberRepository memberRepo;
+    private final MemberOwnershipIndex ownershipIndex;
     private final FileStorage fileStorage;
+    private final FileService fileService;
     private final NotificationService notiService;
+    private final SearchIndex searchIndex;
+    private final SearchIndexer searchIndexer;
+    private final ApproximateCountCache countCache;
+    private final MediaUrlCache mediaUrls;
+    private final ImageVariantGenerator imageVariants;
 
     // ✅ 생성 (권한 체크 추가)
     public WorkoutLogResponse create(Long memberId, WorkoutLogRequest req) {
@@ -43,12 +69,11 @@ public class WorkoutLogService {
 
         String mediaUrl = null;
         String mediaType = null;
-        MultipartFile file = req.media();
+        FileService.AttachedMedia media = fileService.attach(req.media(), req.mediaUrl(), getCurrentUser().getId());
 
-        if (file != null && !file.isEmpty()) {
-            mediaUrl = fileStorage.save(file);
-            String contentType = file.getContentType();
-            mediaType = (contentType != null && contentType.startsWith("video")) ? "VIDEO" : "IMAGE";
+        if (media != null) {
+            mediaUrl = media.url();
+            mediaType = getMediaType(media.contentType());
         }
 
         WorkoutLog log = WorkoutLog.builder()
@@ -60,9 +85,12 @@ public class WorkoutLogService {
                 .build();
 
         logRepo.save(log);
+        searchIndexer.workoutLog(log);
+        mediaUrls.evict(MediaUrlCache.WORKOUT, log.getId());
+        requestVariants(log);
         
         // 🔔 알림 추가
-        notiService.create(memberId, NotificationType.SUCCESS, "운동 기록이 작성되었습니다!");
+        notiService.publish(memberId, NotificationType.SUCCESS, "운동 기록이 작성되었습니다!");
         return toRes(log);
     }
 
@@ -76,16 +104,23 @@ public class WorkoutLogService {
         log.setTitle(req.title());
         log.setContent(req.content());
 
-        if (req.media() != null && !req.media().isEmpty()) {
+        FileService.AttachedMedia media = fileService.attach(req.media(), req.mediaUrl(), getCurrentUser().getId());
+        if (media != null) {
             if (log.getMediaUrl() != null) {
                 fileStorage.delete(log.getMediaUrl());
             }
-            log.setMediaUrl(fileStorage.save(req.media()));
-            log.setMediaType(getMediaType(req.media()));
+            imageVariants.delete(log.getThumbnailUrl(), log.getMediumUrl());
+            log.setMediaUrl(media.url());
+            log.setMediaType(getMediaType(media.contentType()));
+            log.setThumbnailUrl(null);
+            log.setMediumUrl(null);
+            mediaUrls.evict(MediaUrlCache.WORKOUT, logId);
+            requestVariants(log);
         }
+        searchIndexer.workoutLog(log);
 
         // 🔔 알림 추가
-        notiService.create(log.getMember().getId(), NotificationType.SUCCESS, "운동 기록이 수정되었습니다!");
+        notiService.publish(log.getMember().getId(), NotificationType.SUCCESS, "운동 기록이 수정되었습니다!");
         return toRes(log);
     }
 
@@ -99,10 +134,22 @@ public class WorkoutLogService {
         if (log.getMediaUrl() != null) {
             fileStorage.delete(log.getMediaUrl());
         }
+        imageVariants.delete(log.getThumbnailUrl(), log.getMediumUrl());
         logRepo.delete(log);
+        searchIndexer.remove(SearchDocType.WORKOUT_LOG, logId);
+        mediaUrls.evict(MediaUrlCache.WORKOUT, logId);
 
         // 🔔 알림 추가
-        notiService.create(log.getMember().getId(), NotificationType.WARNING, "운동 기록이 삭제되었습니다.");
+        notiService.publish(log.getMember().getId(), NotificationType.WARNING, "운동 기록이 삭제되었습니다.");
+    }
+
+    // ✅ 단건 조회 (권한 체크)
+    @Transactional(readOnly = true)
+    public WorkoutLogResponse getDetail(Long logId) {
+        WorkoutLog log = logRepo.findById(logId)
+                .orElseThrow(() -> new EntityNotFoundException("운동 기록을 찾을 수 없습니다: " + logId));
+        checkReadPermission(log.getMember().getId());
+        return toRes(log);
     }
 
     // ✅ 조회 (권한 체크)
@@ -114,6 +161,22 @@ public class WorkoutLogService {
                 .toList();
     }
 
+    // ✅ 회원별 조회 (커서 페이지, 최신순 / 깊이와 무관하게 페이지마다 인덱스 범위만 읽음)
+    @Transactional(readOnly = true)
+    public CursorPage<WorkoutLogResponse> listByMemberPage(Long memberId, String cursor, int size) {
+        checkReadPermission(memberId);
+        int limit = KeysetCursor.clampSize(size, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decodeOrNull(cursor);
+        List<WorkoutLogResponse> rows = logRepo.findPageByMemberId(memberId,
+                        after != null ? after.dateTimeKey() : null,
+                        after != null ? after.id() : null,
+                        PageRequest.of(0, limit + 1))
+                .stream()
+                .map(this::toRes)
+                .toList();
+        return CursorPage.of(rows, limit, r -> KeysetCursor.of(r.createdAt(), r.id()));
+    }
+
     @Transactional(readOnly = true)
     public Page<WorkoutLogResponse> findAll(Pageable pageable) {
         UserPrincipal user = getCurrentUser();
@@ -124,19 +187,48 @@ public class WorkoutLogService {
     }
 
     @Transactional(readOnly = true)
-    public Page<WorkoutLogResponse> search(
+    public SliceResponse<WorkoutLogResponse> search(
             String keyword,
             Long memberId,
             LocalDateTime fromDate,
             LocalDateTime toDate,
             String mediaType,
-            Pageable pageable
+            Pageable pageable,
+            CountMode countMode
     ) {
         if (memberId != null) {
             checkReadPermission(memberId); // 🔒 권한 체크
         }
-        return logRepo.search(keyword, memberId, fromDate, toDate, mediaType, pageable)
+        // 키워드는 검색 색인에서 id 를 찾고, 나머지 조건은 id 범위 안에서만 DB 필터링
+        // (색인 결과가 상한을 넘으면 잘라내지 않고 아래 DB 검색으로)
+        if (keyword != null && !keyword.isBlank() && searchIndex.isReady()) {
+            Optional<List<Long>> matched = searchIndex.matchIds(SearchDocType.WORKOUT_LOG, keyword, memberId,
+                    fromDate, toDate, MAX_KEYWORD_CANDIDATES);
+            if (matched.isPresent()) {
+                List<Long> ids = matched.get();
+                if (ids.isEmpty()) return SliceResponse.empty(pageable);
+                if (countMode == CountMode.EXACT) {
+                    return SliceResponse.of(logRepo.findByIdInAndMediaType(ids, mediaType, pageable).map(this::toRes));
+                }
+                // 근사치 = 색인 결과 수 (미디어 종류 필터 전이므로 mediaType 이 없을 때만 정확)
+                Long total = countMode == CountMode.APPROX ? (long) ids.size() : null;
+                return SliceResponse.of(logRepo.findSliceByIdInAndMediaType(ids, mediaType, pageable).map(this::toRes),
+                        total, mediaType == null);
+            }
+        }
+
+        if (countMode == CountMode.EXACT) {
+            return SliceResponse.of(logRepo.search(keyword, memberId, fromDate, toDate, mediaType, pageable)
+                    .map(this::toRes));
+        }
+        Slice<WorkoutLogResponse> slice = logRepo.searchSlice(keyword, memberId, fromDate, toDate, mediaType, pageable)
                 .map(this::toRes);
+        Long total = null;
+        if (countMode == CountMode.APPROX && slice.hasNext()) {
+            total = countCache.get(ApproximateCountCache.key("workout", keyword, memberId, fromDate, toDate, mediaType),
+                    () -> logRepo.countSearch(keyword, memberId, fromDate, toDate, mediaType));
+        }
+        return SliceResponse.of(slice, total, false);
     }
 
     // ========================
@@ -154,18 +246,18 @@ public class WorkoutLogService {
     
     // 담당 트레이너는 담당 회원의 로그 작성 가능
     if (user.isTrainer()) {
-        Member member = memberRepo.findById(memberId)
+        MemberOwnership owner = ownershipIndex.find(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("회원 없음: " + memberId));
-        if (member.getTrainer() != null && member.getTrainer().getId().equals(user.getId())) {
+        if (owner.isTrainedBy(user.getId())) {
             return;
         }
     }
     
     // ✅ PT 회원 본인만 자기 로그 작성 가능 (OT는 불가)
     if (user.getId().equals(memberId)) {
-        Member member = memberRepo.findById(memberId)
+        MemberOwnership owner = ownershipIndex.find(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("회원 없음: " + memberId));
-        if (member.getRole() == Role.PT) {
+        if (owner.role() == Role.PT) {
             return;
         }
         throw new AccessDeniedException("PT 회원만 운동 기록을 작성/수정/삭제할 수 있습니다.");
@@ -177,6 +269,7 @@ public class WorkoutLogService {
 /**
  * 조회 권한 체크: 본인 + 담당 트레이너 + 관리자
  */
+@Transactional(readOnly = true)
 public void checkReadPermission(Long memberId) {
     UserPrincipal user = getCurrentUser();
     
@@ -188,9 +281,9 @@ public void checkReadPermission(Long memberId) {
     
     // 트레이너는 담당 회원의 로그 조회 가능
     if (user.isTrainer()) {
-        Member member = memberRepo.findById(memberId)
+        MemberOwnership owner = ownershipIndex.find(memberId)
                 .orElseThrow(() -> new EntityNotFoundException("회원 없음: " + memberId));
-        if (member.getTrainer() != null && member.getTrainer().getId().equals(user.getId())) {
+        if (owner.isTrainedBy(user.getId())) {
             return;
         }
     }
@@ -211,9 +304,10 @@ public void checkReadPermission(Long memberId) {
     // ========================
 
     private WorkoutLogResponse toRes(WorkoutLog log) {
-        String previewUrl = (log.getMediaUrl() != null)
-                ? "/api/workout-logs/" + log.getId() + "/media"
-                : null;
+        // 리다이렉트 없이 바로 쓸 수 있는 URL (S3 는 기한 있는 서명 URL)
+        String previewUrl = fileStorage.publicUrl(log.getMediaUrl());
+        String thumbnailUrl = log.getThumbnailUrl() != null ? fileStorage.publicUrl(log.getThumbnailUrl()) : previewUrl;
+        String mediumUrl = log.getMediumUrl() != null ? fileStorage.publicUrl(log.getMediumUrl()) : previewUrl;
 
         return new WorkoutLogResponse(
                 log.getId(),
@@ -221,13 +315,23 @@ public void checkReadPermission(Long memberId) {
                 log.getTitle(),
                 log.getContent(),
                 previewUrl,
+                thumbnailUrl,
+                mediumUrl,
                 log.getMediaType(),
                 log.getCreatedAt()
         );
     }
 
-    private String getMediaType(MultipartFile file) {
-        String contentType = file.getContentType();
+    // 이미지면 커밋 이후 썸네일/중간 크기 생성 예약
+    private void requestVariants(WorkoutLog log) {
+        if (!"IMAGE".equals(log.getMediaType())) return;
+        Long id = log.getId();
+        String mediaUrl = log.getMediaUrl();
+        imageVariants.submit(mediaUrl,
+                v -> logRepo.updateVariants(id, mediaUrl, v.thumbnailUrl(), v.mediumUrl()) > 0);
+    }
+
+    private String getMediaType(String contentType) {
         return (contentType != null && contentType.startsWith("video")) ? "VIDEO" : "IMAGE";
     }
 }
\ No newline at end of file
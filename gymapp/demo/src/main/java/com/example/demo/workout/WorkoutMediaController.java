@@ -1,25 +1,69 @@
 package com.example.demo.workout;
 
+import com.example.demo.storage.FileStorage;
+import com.example.demo.storage.MediaRangeServer;
+import com.example.demo.storage.MediaUrlCache;
+import com.example.demo.storage.dto.MediaRef;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/workout-logs")
 public class WorkoutMediaController {
 
     private final WorkoutLogRepository repo;
+    private final MediaUrlCache mediaUrls;
+    private final FileStorage fileStorage;
+    private final MediaRangeServer rangeServer;
+    private final WorkoutLogService logService;
+
+    // 예전 미리보기 주소를 익명으로 열지 여부 (local: /media/** 와 같이 공개, 운영: 로그인 + 조회 권한)
+    @Value("${app.media.legacy-preview-public:false}")
+    private boolean legacyPreviewPublic;
 
+    // 예전 클라이언트 호환용 (목록/상세 응답의 미디어 URL 을 바로 쓰면 이 요청은 필요 없음)
+    // 기록 id → (소유 회원, URL) 은 캐시에서 찾음 → 캐시 적중이면 권한 확인까지 DB 조회 없음
     @GetMapping("/{logId}/media")
     public ResponseEntity<Void> preview(@PathVariable Long logId) {
-        var log = repo.findById(logId).orElseThrow();
-        if (log.getMediaUrl() == null) {
+        MediaRef media = findMedia(logId);
+        if (!legacyPreviewPublic) {
+            logService.checkReadPermission(media.ownerId()); // 🔒 상세 조회와 같은 권한
+        }
+        if (media.url() == null) {
             return ResponseEntity.notFound().build();
         }
-        // 간단하게 302 리다이렉트 → 정적 파일 URL
         return ResponseEntity.status(302)
-                .header("Location", log.getMediaUrl())
+                .header("Location", fileStorage.publicUrl(media.url()))
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePrivate())
                 .build();
     }
+
+    // ✅ 영상 구간 재생 (Range / If-Range 지원 → 탐색 시 요청한 바이트만 전송)
+    @GetMapping("/{logId}/media/stream")
+    public void stream(@PathVariable Long logId,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        MediaRef media = findMedia(logId);
+        logService.checkReadPermission(media.ownerId()); // 🔒 기록 소유 회원 기준 조회 권한
+        if (media.url() == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        rangeServer.serve(media.url(), request, response);
+    }
+
+    private MediaRef findMedia(Long logId) {
+        return mediaUrls.find(MediaUrlCache.WORKOUT, logId, repo::findMediaRefById)
+                .orElseThrow(() -> new EntityNotFoundException("운동 기록을 찾을 수 없습니다: " + logId));
+    }
 }
@@ -6,5 +6,6 @@ public record WorkoutLogRequest(
         String title,
         String content,
         MultipartFile media,
+        String mediaUrl, // 스트리밍 업로드로 미리 올린 URL (media 가 없을 때만 사용)
          Long memberId
 ) {}
@@ -7,7 +7,9 @@ public record WorkoutLogResponse(
         Long memberId,
         String title,
         String content,
-        String mediaPreviewUrl, // 미리보기용 URL (마스킹 처리)
+        String mediaPreviewUrl, // 미리보기용 URL (로컬: /media/…, S3: 기한 있는 서명 URL)
+        String thumbnailUrl,    // 목록용 썸네일 (아직 없으면 원본 URL)
+        String mediumUrl,       // 상세 화면용 중간 크기 (아직 없으면 원본 URL)
         String mediaType,
         LocalDateTime createdAt
 ) {}
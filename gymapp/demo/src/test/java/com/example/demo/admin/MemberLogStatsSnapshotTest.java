@@ -0,0 +1,99 @@
+package com.example.demo.admin;
+
+import com.example.demo.admin.dto.MemberStatsResponse;
+import com.example.demo.member.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberLogStatsSnapshotTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final MemberRepository repo = mock(MemberRepository.class);
+    private final MemberLogStatsSnapshot snapshot = new MemberLogStatsSnapshot(repo);
+
+    // member_id, name, workout_count, diet_count, total_logs, last_log_at
+    private static Object[] row(long id, long workout, long diet, LocalDateTime last) {
+        return new Object[]{id, "m" + id, workout, diet, workout + diet, last == null ? null : Timestamp.valueOf(last)};
+    }
+
+    private static List<Long> ids(List<MemberStatsResponse> page) {
+        return page.stream().map(MemberStatsResponse::memberId).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(snapshot, "refreshMs", 60_000L);
+        when(repo.findMemberLogStats()).thenReturn(new ArrayList<>(List.of(
+                row(1, 3, 2, T.minusDays(3)),
+                row(2, 1, 0, T),
+                row(3, 0, 0, null),
+                row(4, 4, 1, T.minusDays(1)),
+                row(5, 0, 0, null))));
+    }
+
+    @Test
+    void 총_로그_수_내림차순_같으면_id_내림차순() {
+        List<MemberStatsResponse> first = snapshot.pageByTotalLogs(null, null, 2);
+        MemberStatsResponse last = first.get(first.size() - 1);
+        List<MemberStatsResponse> next = snapshot.pageByTotalLogs(last.totalLogs(), last.memberId(), 10);
+
+        assertThat(ids(first)).containsExactly(4L, 1L);
+        assertThat(ids(next)).containsExactly(2L, 5L, 3L);
+    }
+
+    @Test
+    void 최근_활동_내림차순_활동_없는_회원은_마지막() {
+        List<MemberStatsResponse> first = snapshot.pageByLastActivity(null, null, 3);
+        List<MemberStatsResponse> next = snapshot.pageByLastActivity(
+                MemberLogStatsSnapshot.lastKey(first.get(2)), first.get(2).memberId(), 3);
+
+        assertThat(ids(first)).containsExactly(2L, 4L, 1L);
+        assertThat(first.get(0).lastLogAt()).isEqualTo(T);
+        assertThat(ids(next)).containsExactly(5L, 3L);
+        assertThat(next.get(0).lastLogAt()).isNull();
+    }
+
+    @Test
+    void 활동_없는_회원_사이에서도_커서로_이어짐() {
+        List<MemberStatsResponse> next = snapshot.pageByLastActivity(MemberLogStatsSnapshot.NO_ACTIVITY_KEY, 5L, 10);
+
+        assertThat(ids(next)).containsExactly(3L);
+    }
+
+    @Test
+    void 마지막_뒤의_커서는_빈_페이지() {
+        assertThat(snapshot.pageByTotalLogs(0L, 3L, 10)).isEmpty();
+    }
+
+    @Test
+    void 갱신_주기_안에서는_페이지마다_집계하지_않음() {
+        snapshot.pageByTotalLogs(null, null, 2);
+        snapshot.pageByTotalLogs(5L, 1L, 2);
+        snapshot.pageByLastActivity(null, null, 2);
+
+        verify(repo, times(1)).findMemberLogStats();
+    }
+
+    @Test
+    void 갱신_주기가_지나면_다시_집계() {
+        ReflectionTestUtils.setField(snapshot, "refreshMs", 0L);
+
+        snapshot.pageByTotalLogs(null, null, 2);
+        snapshot.pageByTotalLogs(null, null, 2);
+
+        verify(repo, times(2)).findMemberLogStats();
+    }
+}
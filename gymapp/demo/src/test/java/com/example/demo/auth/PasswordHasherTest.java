@@ -0,0 +1,91 @@
+package com.example.demo.auth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTest {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    private final SlowEncoder encoder = new SlowEncoder();
+    private final PasswordHasher hasher = new PasswordHasher(encoder);
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void 단건은_호출_스레드에서_해시() {
+        assertThat(hasher.encode("pw")).isEqualTo("{hash}pw");
+        assertThat(encoder.threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void 일괄_해시는_입력_순서대로() {
+        List<String> raw = IntStream.range(0, 20).mapToObj(i -> "pw" + i).toList();
+
+        assertThat(hasher.encodeAll(raw)).containsExactlyElementsOf(raw.stream().map(r -> "{hash}" + r).toList());
+    }
+
+    @Test
+    void 대기열이_넘치고_단건이_섞여도_동시_해시는_코어_수_이하() throws Exception {
+        // 대기열(코어 수 × 4)을 넘는 일괄 등록 여러 개 + 단건 요청을 동시에
+        List<String> batch = IntStream.range(0, CORES * 10).mapToObj(i -> "pw" + i).toList();
+        ExecutorService callers = Executors.newFixedThreadPool(CORES * 2);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CORES; i++) {
+                futures.add(callers.submit(() -> hasher.encodeAll(batch)));
+                futures.add(callers.submit(() -> hasher.encode("single")));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            callers.shutdown();
+        }
+
+        assertThat(encoder.maxConcurrent).hasValueLessThanOrEqualTo(CORES);
+        assertThat(hasher.metrics().get("hashed")).isEqualTo((long) CORES * (batch.size() + 1));
+    }
+
+    // 동시에 몇 개가 해시 중인지 기록하는 느린 인코더
+    private static class SlowEncoder implements PasswordEncoder {
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        final List<String> threads = new ArrayList<>();
+
+        @Override
+        public String encode(CharSequence raw) {
+            int now = running.incrementAndGet();
+            maxConcurrent.accumulateAndGet(now, Math::max);
+            synchronized (threads) {
+                threads.add(Thread.currentThread().getName());
+            }
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return "{hash}" + raw;
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            return encoded.equals(encode(raw));
+        }
+    }
+}
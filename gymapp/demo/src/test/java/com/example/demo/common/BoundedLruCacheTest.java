@@ -0,0 +1,102 @@
+package com.example.demo.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedLruCacheTest {
+
+    @Test
+    void 크기를_넘으면_가장_오래된_항목부터_제거() {
+        BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo(2);
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 조회한_항목은_최근_사용으로_남음() {
+        BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+    }
+
+    @Test
+    void 같은_키를_다시_넣으면_값만_바뀜() {
+        BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(2);
+        cache.put("a", 1);
+        cache.put("a", 10);
+
+        assertThat(cache.get("a")).isEqualTo(10);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 조건으로_제거와_전체_비우기() {
+        BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(10);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        cache.removeIf(v -> v % 2 == 1);
+        assertThat(cache.get("b")).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.remove("b");
+        assertThat(cache.size()).isZero();
+
+        cache.put("d", 4);
+        cache.clear();
+        assertThat(cache.get("d")).isNull();
+    }
+
+    @Test
+    void 크기는_1_이상() {
+        assertThatThrownBy(() -> new BoundedLruCache<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_최대_크기를_넘지_않음() throws InterruptedException {
+        BoundedLruCache<Integer, Integer> cache = new BoundedLruCache<>(100);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t * 10_000;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 10_000; i++) {
+                    cache.put(offset + i, i);
+                    cache.get(offset + i / 2);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+    }
+}
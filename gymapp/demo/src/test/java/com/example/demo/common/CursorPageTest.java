@@ -0,0 +1,45 @@
+package com.example.demo.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageTest {
+
+    @Test
+    void 크기보다_한_건_더_있으면_마지막_항목_기준으로_다음_커서() {
+        CursorPage<Integer> page = CursorPage.of(List.of(1, 2, 3, 4), 3, n -> "c" + n);
+
+        assertThat(page.content()).containsExactly(1, 2, 3);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo("c3");
+    }
+
+    @Test
+    void 크기_이하면_마지막_페이지() {
+        CursorPage<Integer> exact = CursorPage.of(List.of(1, 2, 3), 3, n -> "c" + n);
+        CursorPage<Integer> empty = CursorPage.of(List.of(), 3, n -> "c" + n);
+
+        assertThat(exact.content()).containsExactly(1, 2, 3);
+        assertThat(exact.hasNext()).isFalse();
+        assertThat(exact.nextCursor()).isNull();
+        assertThat(empty.content()).isEmpty();
+        assertThat(empty.hasNext()).isFalse();
+    }
+
+    @Test
+    void 내용은_조회_결과와_분리된_불변_목록() {
+        List<Integer> rows = new ArrayList<>(List.of(1, 2, 3));
+        CursorPage<Integer> page = CursorPage.of(rows, 2, n -> "c" + n);
+
+        rows.set(0, 99);
+
+        assertThat(page.content()).containsExactly(1, 2);
+        assertThatThrownBy(() -> page.content().add(4))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원() {
+        LocalDateTime at = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(at, 42));
+
+        assertThat(cursor.dateTimeKey()).isEqualTo(at);
+        assertThat(cursor.id()).isEqualTo(42);
+    }
+
+    @Test
+    void 키에_구분자가_있어도_마지막_구분자로_id_를_나눔() {
+        String encoded = new KeysetCursor("a|b", 7).encode();
+
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(new KeysetCursor("a|b", 7));
+    }
+
+    @Test
+    void 커서는_URL_에_그대로_쓸_수_있는_문자만_사용() {
+        String encoded = new KeysetCursor("한글 키?&=/", Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 비어_있으면_첫_페이지() {
+        assertThat(KeysetCursor.decodeOrNull(null)).isNull();
+        assertThat(KeysetCursor.decodeOrNull("")).isNull();
+        assertThat(KeysetCursor.decodeOrNull("  ")).isNull();
+    }
+
+    @Test
+    void 잘못된_커서는_400_용_예외() {
+        assertThatThrownBy(() -> KeysetCursor.decode("!!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(new KeysetCursor("x", 1).encode().substring(0, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeysetCursor("not-a-date", 1).dateTimeKey())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 페이지_크기는_1_부터_최대값까지() {
+        assertThat(KeysetCursor.clampSize(0, 100)).isEqualTo(1);
+        assertThat(KeysetCursor.clampSize(-5, 100)).isEqualTo(1);
+        assertThat(KeysetCursor.clampSize(20, 100)).isEqualTo(20);
+        assertThat(KeysetCursor.clampSize(1000, 100)).isEqualTo(100);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demo.member;
+
+import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.enums.Role;
+import com.example.demo.common.enums.UserStatus;
+import com.example.demo.diet.DietLogService;
+import com.example.demo.diet.dto.DietLogRequest;
+import com.example.demo.membership.Membership;
+import com.example.demo.membership.MembershipRepository;
+import com.example.demo.notification.Notification;
+import com.example.demo.notification.NotificationRepository;
+import com.example.demo.notification.NotificationService;
+import com.example.demo.notification.NotificationType;
+import com.example.demo.ptsession.PtSessionService;
+import com.example.demo.ptsession.dto.PtSessionRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 조회 쿼리 수 (임베디드 H2, MariaDB 모드)
+ * - Member 하나를 읽을 때 SQL 은 한 번 → memberships 를 함께 읽지 않음
+ * - 서비스 호출 중 memberships 는 명시적으로 조회한 경우에만 로드됨
+ */
+@SpringBootTest
+@ActiveProfiles({"local", "h2"})
+class MemberLoadQueryCountTest {
+
+    @Autowired EntityManagerFactory emf;
+    @Autowired TransactionTemplate tx;
+    @Autowired MemberRepository memberRepo;
+    @Autowired MembershipRepository membershipRepo;
+    @Autowired NotificationRepository notificationRepo;
+    @Autowired DietLogService dietLogService;
+    @Autowired PtSessionService ptSessionService;
+    @Autowired NotificationService notificationService;
+
+    private Statistics stats;
+    private Member trainer;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        tx.executeWithoutResult(s -> {
+            trainer = memberRepo.save(newMember(Role.TRAINER, null));
+            member = memberRepo.save(newMember(Role.PT, trainer));
+            membershipRepo.save(Membership.builder()
+                    .member(member)
+                    .ptTotal(10).ptUsed(0)
+                    .svcTotal(0).svcUsed(0)
+                    .build());
+            notificationRepo.save(Notification.builder()
+                    .member(member)
+                    .type(NotificationType.INFO)
+                    .message("테스트 알림")
+                    .build());
+        });
+        stats.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 회원_단건_조회는_쿼리_한_번() {
+        assertThat(memberRepo.findById(member.getId())).isPresent();
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(membershipLoads()).isZero();
+    }
+
+    @Test
+    void 식단_작성은_회원권을_읽지_않음() {
+        loginAs(member);
+
+        dietLogService.create(member.getId(), new DietLogRequest("아침", "현미밥", null, null, null));
+
+        assertThat(stats.getEntityStatistics(Member.class.getName()).getLoadCount()).isEqualTo(1);
+        assertThat(membershipLoads()).isZero();
+    }
+
+    @Test
+    void PT_세션_기록은_차감할_회원권만_읽음() {
+        loginAs(trainer);
+
+        ptSessionService.create(new PtSessionRequest(member.getId(), LocalDateTime.now(), 50, "하체", null));
+
+        // 트레이너 + 회원 (담당 트레이너는 id 만 비교하므로 프록시)
+        assertThat(stats.getEntityStatistics(Member.class.getName()).getLoadCount()).isEqualTo(2);
+        assertThat(membershipLoads()).isEqualTo(1); // findByMemberId 로 명시 조회한 것만
+        // 트레이너 / 회원 / 회원권 조회 + 세션 id 시퀀스 + 세션 insert + 회원권 update
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    @Test
+    void 알림_목록은_회원도_회원권도_읽지_않음() {
+        loginAs(member);
+
+        assertThat(notificationService.getPage(member.getId(), false, null, 20).content()).hasSize(1);
+
+        assertThat(stats.getEntityStatistics(Member.class.getName()).getLoadCount()).isZero();
+        assertThat(membershipLoads()).isZero();
+    }
+
+    private long membershipLoads() {
+        return stats.getEntityStatistics(Membership.class.getName()).getLoadCount();
+    }
+
+    private static Member newMember(Role role, Member trainer) {
+        return Member.builder()
+                .name(role.name())
+                .email(UUID.randomUUID() + "@test.com")
+                .password("x")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .trainer(trainer)
+                .build();
+    }
+
+    private static void loginAs(Member m) {
+        UserPrincipal principal = new UserPrincipal(m.getId(), m.getEmail(), m.getRole(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + m.getRole().name())));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UnreadCounterTest {
+
+    private final NotificationRepository repo = mock(NotificationRepository.class);
+    private final UnreadCounter counter = new UnreadCounter(repo);
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    @Test
+    void 첫_집계_전에는_DB_에서_한_번_읽어_채움() {
+        when(repo.countByMemberIdAndIsReadFalse(1L)).thenReturn(3L);
+
+        assertThat(counter.get(1L).count()).isEqualTo(3);
+        assertThat(counter.get(1L).count()).isEqualTo(3);
+        verify(repo).countByMemberIdAndIsReadFalse(1L);
+    }
+
+    @Test
+    void 집계_후에는_DB_를_읽지_않음() {
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 2L}));
+        counter.reconcile();
+
+        assertThat(counter.get(1L).count()).isEqualTo(2);
+        assertThat(counter.get(2L).count()).isZero();
+        verify(repo, never()).countByMemberIdAndIsReadFalse(1L);
+        verify(repo, never()).countByMemberIdAndIsReadFalse(2L);
+    }
+
+    @Test
+    void 새_알림이_더해지면_개수와_ETag_가_바뀜() {
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 2L}));
+        counter.reconcile();
+        UnreadCounter.Snapshot before = counter.get(1L);
+
+        counter.added(1L, 3);
+        counter.added(7L, 1);
+
+        UnreadCounter.Snapshot after = counter.get(1L);
+        assertThat(after.count()).isEqualTo(5);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(counter.get(7L).count()).isEqualTo(1);
+    }
+
+    @Test
+    void 바뀌지_않았으면_같은_ETag() {
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 2L}));
+        counter.reconcile();
+        String etag = counter.get(1L).etag();
+
+        counter.reconcile(); // DB 값이 같으면 version 유지
+
+        assertThat(counter.get(1L).etag()).isEqualTo(etag);
+    }
+
+    @Test
+    void 첫_집계_전_더하기는_무시하고_조회_때_DB_에서_읽음() {
+        counter.added(1L, 1);
+        when(repo.countByMemberIdAndIsReadFalse(1L)).thenReturn(4L);
+
+        assertThat(counter.get(1L).count()).isEqualTo(4);
+    }
+
+    @Test
+    void 읽음_처리_후_해당_회원만_DB_와_맞춤() {
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 5L}, new Object[]{2L, 1L}));
+        counter.reconcile();
+        String etag = counter.get(1L).etag();
+        when(repo.countByMemberIdAndIsReadFalse(1L)).thenReturn(0L);
+
+        counter.refresh(1L); // 트랜잭션 밖이면 바로 실행
+
+        assertThat(counter.get(1L).count()).isZero();
+        assertThat(counter.get(1L).etag()).isNotEqualTo(etag);
+        assertThat(counter.get(2L).count()).isEqualTo(1);
+    }
+
+    @Test
+    void 다시_읽는_도중_새_알림이_더해지면_빠뜨리지_않고_다시_읽음() {
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 5L}));
+        counter.reconcile();
+        // 모두 읽음 커밋 직후 집계 쿼리가 도는 사이 새 알림 1건이 저장·반영됨 (쿼리 스냅샷에는 없음)
+        when(repo.countByMemberIdAndIsReadFalse(1L))
+                .thenAnswer(inv -> {
+                    counter.added(1L, 1);
+                    return 0L;
+                })
+                .thenReturn(1L);
+
+        counter.refresh(1L);
+
+        assertThat(counter.get(1L).count()).isEqualTo(1);
+    }
+
+    @Test
+    void 계속_겹치면_덮어쓰지_않고_주기_집계에_맡김() {
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 5L}));
+        counter.reconcile();
+        when(repo.countByMemberIdAndIsReadFalse(1L)).thenAnswer(inv -> {
+            counter.added(1L, 1);
+            return 0L;
+        });
+
+        counter.refresh(1L);
+
+        assertThat(counter.get(1L).count()).isEqualTo(8); // 5 + 3번의 added, 0 으로 덮어쓰지 않음
+    }
+
+    @Test
+    void 주기_집계는_어긋난_값을_DB_값으로_고침() {
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 2L}));
+        counter.reconcile();
+        counter.added(1L, 10);
+
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 3L}));
+        counter.reconcile();
+
+        assertThat(counter.get(1L).count()).isEqualTo(3);
+    }
+
+    @Test
+    void DB_에서_모두_읽힌_회원은_0() {
+        when(repo.countUnreadGroupByMember()).thenReturn(rows(new Object[]{1L, 2L}));
+        counter.reconcile();
+
+        when(repo.countUnreadGroupByMember()).thenReturn(rows());
+        counter.reconcile();
+
+        assertThat(counter.get(1L).count()).isZero();
+    }
+}
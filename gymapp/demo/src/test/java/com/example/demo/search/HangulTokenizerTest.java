@@ -0,0 +1,59 @@
+package com.example.demo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulTokenizerTest {
+
+    @Test
+    void 한글은_바이그램과_글자로_색인() {
+        Map<String, Integer> terms = HangulTokenizer.index("스쿼트");
+
+        assertThat(terms).containsOnlyKeys("스", "쿼", "트", "스쿼", "쿼트");
+    }
+
+    @Test
+    void 영문_숫자_구간도_글자_단위로_색인() {
+        Map<String, Integer> terms = HangulTokenizer.index("15kg");
+
+        assertThat(terms).containsKeys("1", "5", "k", "g", "15", "5k", "kg");
+    }
+
+    @Test
+    void 한글과_그외_문자는_다른_구간으로_나눔() {
+        Map<String, Integer> terms = HangulTokenizer.index("벤치80kg");
+
+        assertThat(terms).containsKeys("벤치", "80", "kg");
+        assertThat(terms).doesNotContainKeys("치8");
+    }
+
+    @Test
+    void 등장_횟수를_셈() {
+        Map<String, Integer> terms = HangulTokenizer.index("스쿼트 스쿼트");
+
+        assertThat(terms.get("스쿼")).isEqualTo(2);
+    }
+
+    @Test
+    void 검색어는_소문자_NFC_로_정규화() {
+        String decomposed = java.text.Normalizer.normalize("런지", java.text.Normalizer.Form.NFD);
+
+        assertThat(HangulTokenizer.query("BENCH")).contains("be", "ch");
+        assertThat(HangulTokenizer.query(decomposed)).containsExactly("런지");
+    }
+
+    @Test
+    void 한_글자_검색어는_글자_그대로() {
+        assertThat(HangulTokenizer.query("5")).containsExactly("5");
+        assertThat(HangulTokenizer.query("팔 5")).containsExactly("팔", "5");
+    }
+
+    @Test
+    void 빈_검색어는_용어_없음() {
+        assertThat(HangulTokenizer.query(null)).isEmpty();
+        assertThat(HangulTokenizer.query("  !! ")).isEmpty();
+    }
+}
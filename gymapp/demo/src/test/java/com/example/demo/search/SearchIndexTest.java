@@ -0,0 +1,170 @@
+package com.example.demo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final SearchIndex index = new SearchIndex();
+
+    private List<Long> ids(String query) {
+        return index.search(query, null, null).stream().map(SearchIndex.Hit::id).toList();
+    }
+
+    @Test
+    void 모든_용어를_포함한_문서만_찾음() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, "하체", "스쿼트 5세트");
+        index.put(SearchDocType.WORKOUT_LOG, 2, 10, T, "하체", "런지 3세트");
+        index.put(SearchDocType.WORKOUT_LOG, 3, 10, T, "상체", "벤치 15kg");
+
+        assertThat(ids("하체 스쿼트")).containsExactly(1L);
+        assertThat(ids("하체")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids("하체 벤치")).isEmpty();
+        assertThat(ids("데드")).isEmpty();
+    }
+
+    @Test
+    void 한_글자_숫자로_긴_구간_안을_찾음() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "벤치 15kg");
+        index.put(SearchDocType.WORKOUT_LOG, 2, 10, T, null, "벤치 20kg");
+
+        assertThat(ids("5")).containsExactly(1L);
+        assertThat(ids("k")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 제목_일치가_본문보다_점수가_높음() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "스쿼트");
+        index.put(SearchDocType.WORKOUT_LOG, 2, 10, T, "스쿼트", null);
+
+        assertThat(ids("스쿼트")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 종류와_소유자로_거름() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "닭가슴살");
+        index.put(SearchDocType.DIET_LOG, 1, 10, T, null, "닭가슴살");
+        index.put(SearchDocType.DIET_LOG, 2, 20, T, null, "닭가슴살");
+
+        assertThat(index.search("닭가슴살", Set.of(SearchDocType.DIET_LOG), null)).hasSize(2);
+        assertThat(index.search("닭가슴살", Set.of(SearchDocType.DIET_LOG), 20L))
+                .extracting(SearchIndex.Hit::id).containsExactly(2L);
+    }
+
+    @Test
+    void 수정과_삭제가_용어_목록에_반영됨() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "스쿼트");
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "런지");
+
+        assertThat(ids("스쿼트")).isEmpty();
+        assertThat(ids("런지")).containsExactly(1L);
+
+        index.remove(SearchDocType.WORKOUT_LOG, 1);
+        assertThat(ids("런지")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void 매칭_id_는_기간으로_거르고_최신순() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T.minusDays(10), null, "스쿼트");
+        index.put(SearchDocType.WORKOUT_LOG, 2, 10, T, null, "스쿼트");
+        index.put(SearchDocType.WORKOUT_LOG, 3, 10, T.plusDays(1), null, "스쿼트");
+
+        assertThat(index.matchIds(SearchDocType.WORKOUT_LOG, "스쿼트", 10L, T.minusDays(1), null, 10))
+                .contains(List.of(3L, 2L));
+        assertThat(index.matchIds(SearchDocType.WORKOUT_LOG, "스쿼트", 10L, null, null, 3))
+                .contains(List.of(3L, 2L, 1L));
+    }
+
+    @Test
+    void 매칭_id_가_상한을_넘으면_잘라내지_않고_empty() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "스쿼트");
+        index.put(SearchDocType.WORKOUT_LOG, 2, 10, T, null, "스쿼트");
+
+        assertThat(index.matchIds(SearchDocType.WORKOUT_LOG, "스쿼트", 10L, null, null, 1)).isEmpty();
+    }
+
+    @Test
+    void 바이그램이_모두_있어도_검색어가_그대로_없으면_제외() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "쿼트 대신 스쿼");
+        index.put(SearchDocType.WORKOUT_LOG, 2, 10, T, null, "스쿼트 5세트");
+
+        assertThat(ids("스쿼트")).containsExactly(2L);
+        assertThat(index.matchIds(SearchDocType.WORKOUT_LOG, "스쿼트", null, null, null, 10))
+                .contains(List.of(2L));
+    }
+
+    @Test
+    void 매칭_id_는_LIKE_처럼_검색어_전체를_제목이나_본문에서_찾음() {
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, "스쿼트", "5세트");
+        index.put(SearchDocType.WORKOUT_LOG, 2, 10, T, null, "5세트 스쿼트");
+        index.put(SearchDocType.WORKOUT_LOG, 3, 10, T, null, "Squat 5세트");
+
+        // 단어별 검색은 제목/본문에 나뉘어 있어도 찾지만, 목록 검색은 "%스쿼트 5%" 와 같게
+        assertThat(ids("스쿼트 5")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.matchIds(SearchDocType.WORKOUT_LOG, "스쿼트 5", null, null, null, 10)).contains(List.of());
+        assertThat(index.matchIds(SearchDocType.WORKOUT_LOG, "SQUAT 5", null, null, null, 10)).contains(List.of(3L));
+    }
+
+    @Test
+    void 색인할_글자가_없는_검색어는_empty() {
+        assertThat(index.matchIds(SearchDocType.WORKOUT_LOG, "%!", null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void 재구축_중_실시간_변경은_재구축_데이터로_덮어쓰지_않음() {
+        index.beginRebuild();
+        assertThat(index.isReady()).isFalse();
+
+        // 재구축이 읽기 전에 커밋된 수정 / 삭제
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "런지");
+        index.remove(SearchDocType.WORKOUT_LOG, 2);
+
+        // 재구축 스트림은 수정 전 값을 읽음
+        index.rebuildPut(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "스쿼트");
+        index.rebuildPut(SearchDocType.WORKOUT_LOG, 2, 10, T, null, "스쿼트");
+        index.rebuildPut(SearchDocType.WORKOUT_LOG, 3, 10, T, null, "스쿼트");
+        index.endRebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(ids("런지")).containsExactly(1L);
+        assertThat(ids("스쿼트")).containsExactly(3L);
+    }
+
+    @Test
+    void 재구축이_끝나면_다시_덮어쓰기_가능() {
+        index.beginRebuild();
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "런지");
+        index.endRebuild();
+
+        index.beginRebuild();
+        index.rebuildPut(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "스쿼트");
+        index.endRebuild();
+
+        assertThat(ids("스쿼트")).containsExactly(1L);
+    }
+
+    @Test
+    void 재구축_실패하면_준비되지_않은_상태로_정리() {
+        index.beginRebuild();
+        index.put(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "런지");
+        index.abortRebuild();
+
+        assertThat(index.isReady()).isFalse();
+
+        // 다음 시도에서는 이전 시도의 변경 기록이 남아 있지 않음
+        index.beginRebuild();
+        index.rebuildPut(SearchDocType.WORKOUT_LOG, 1, 10, T, null, "스쿼트");
+        index.endRebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(ids("스쿼트")).containsExactly(1L);
+    }
+}
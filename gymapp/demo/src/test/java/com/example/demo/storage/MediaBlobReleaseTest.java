@@ -0,0 +1,161 @@
+package com.example.demo.storage;
+
+import com.example.demo.auth.UserPrincipal;
+import com.example.demo.common.enums.Role;
+import com.example.demo.common.enums.UserStatus;
+import com.example.demo.member.Member;
+import com.example.demo.member.MemberRepository;
+import com.example.demo.workout.WorkoutLog;
+import com.example.demo.workout.WorkoutLogRepository;
+import com.example.demo.workout.WorkoutLogService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 삭제 시 파생본(썸네일 / 중간 크기) 참조 해제 (임베디드 H2 + 로컬 저장소)
+ * - 참조 수는 서비스 트랜잭션과 함께 커밋/롤백
+ * - 다른 기록이 함께 쓰는 파생본은 남고, 참조가 0 이 된 파일만 정리
+ */
+@SpringBootTest
+@ActiveProfiles({"local", "h2"})
+class MediaBlobReleaseTest {
+
+    @Autowired FileStorage fileStorage;
+    @Autowired WorkoutLogService workoutLogService;
+    @Autowired WorkoutLogRepository logRepo;
+    @Autowired MemberRepository memberRepo;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TransactionTemplate tx;
+
+    private final List<String> stored = new ArrayList<>();
+    private String sharedThumbnail;
+    private String medium;
+    private Long logId;
+
+    @BeforeEach
+    void setUp() {
+        Member admin = memberRepo.save(newMember(Role.ADMIN));
+        Member member = memberRepo.save(newMember(Role.PT));
+        loginAs(admin);
+
+        byte[] thumbnailBytes = randomJpeg();
+        sharedThumbnail = saveVariant(thumbnailBytes);
+        assertThat(saveVariant(thumbnailBytes)).isEqualTo(sharedThumbnail); // 같은 내용 → 같은 파일, 참조 2
+        medium = saveVariant(randomJpeg());
+
+        logId = saveLog(member, sharedThumbnail, medium);
+        saveLog(member, sharedThumbnail, null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        SecurityContextHolder.clearContext();
+        for (String url : stored) {
+            Files.deleteIfExists(localPath(url));
+        }
+    }
+
+    @Test
+    void 기록을_지우면_파생본_참조가_줄고_0_이_된_파일만_삭제() throws InterruptedException {
+        assertThat(refCount(sharedThumbnail)).isEqualTo(2);
+        assertThat(refCount(medium)).isEqualTo(1);
+
+        workoutLogService.delete(logId);
+
+        assertThat(refCount(sharedThumbnail)).isEqualTo(1);
+        awaitPurged(medium);
+        assertThat(refCount(medium)).isZero();
+        assertThat(Files.exists(localPath(medium))).isFalse();
+        assertThat(Files.exists(localPath(sharedThumbnail))).isTrue();
+    }
+
+    @Test
+    void 삭제가_롤백되면_참조도_그대로() {
+        tx.executeWithoutResult(s -> {
+            workoutLogService.delete(logId);
+            s.setRollbackOnly();
+        });
+
+        assertThat(refCount(sharedThumbnail)).isEqualTo(2);
+        assertThat(refCount(medium)).isEqualTo(1);
+        assertThat(Files.exists(localPath(medium))).isTrue();
+    }
+
+    // 행이 없으면 0 (정리 스레드가 행까지 지운 경우)
+    private int refCount(String url) {
+        List<Integer> rows = jdbc.queryForList(
+                "SELECT ref_count FROM media_blobs WHERE hash = ?", Integer.class, MediaBlobRegistry.hashOf(url));
+        return rows.isEmpty() ? 0 : rows.get(0);
+    }
+
+    // 파일 삭제는 커밋 이후 정리 스레드에서 실행
+    private void awaitPurged(String url) throws InterruptedException {
+        for (int i = 0; i < 50 && Files.exists(localPath(url)); i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    private String saveVariant(byte[] jpeg) {
+        String url = fileStorage.saveVariant(jpeg);
+        stored.add(url);
+        return url;
+    }
+
+    private Long saveLog(Member member, String thumbnailUrl, String mediumUrl) {
+        return logRepo.save(WorkoutLog.builder()
+                .member(member)
+                .title("하체")
+                .content("스쿼트")
+                .mediaType("IMAGE")
+                .thumbnailUrl(thumbnailUrl)
+                .mediumUrl(mediumUrl)
+                .build()).getId();
+    }
+
+    private Path localPath(String url) {
+        return fileStorage.localPath(url);
+    }
+
+    // 저장소는 내용만 해시하므로 실제 JPEG 일 필요는 없음 (테스트끼리 겹치지 않도록 난수)
+    private static byte[] randomJpeg() {
+        byte[] bytes = new byte[256];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static Member newMember(Role role) {
+        return Member.builder()
+                .name(role.name())
+                .email(UUID.randomUUID() + "@test.com")
+                .password("x")
+                .role(role)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private static void loginAs(Member m) {
+        UserPrincipal principal = new UserPrincipal(m.getId(), m.getEmail(), m.getRole(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + m.getRole().name())));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
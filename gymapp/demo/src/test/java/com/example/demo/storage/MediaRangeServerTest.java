@@ -0,0 +1,199 @@
+package com.example.demo.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MediaRangeServerTest {
+
+    private static final String URL = "/media/clip.mp4";
+    private static final String BODY = "0123456789".repeat(10); // 100 bytes
+    private static final String ETAG = "\"v1\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    private final FileStorage storage = mock(FileStorage.class);
+    private final MediaRangeServer server = new MediaRangeServer(storage);
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(dir.resolve("clip.mp4"), BODY, StandardCharsets.US_ASCII);
+        when(storage.stat(URL)).thenReturn(new FileStorage.MediaInfo(100, LAST_MODIFIED, ETAG, "video/mp4"));
+        when(storage.localPath(URL)).thenReturn(file);
+    }
+
+    private MockHttpServletResponse get(String range, String ifRange) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URL);
+        if (range != null) request.addHeader(HttpHeaders.RANGE, range);
+        if (ifRange != null) request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        server.serve(URL, request, response);
+        return response;
+    }
+
+    private static String body(MockHttpServletResponse response) {
+        return new String(response.getContentAsByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void Range_가_없으면_전체_200() throws IOException {
+        MockHttpServletResponse res = get(null, null);
+
+        assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(res.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(res.getContentLengthLong()).isEqualTo(100);
+        assertThat(body(res)).isEqualTo(BODY);
+    }
+
+    @Test
+    void 단일_구간은_206() throws IOException {
+        MockHttpServletResponse res = get("bytes=10-19", null);
+
+        assertThat(res.getStatus()).isEqualTo(206);
+        assertThat(res.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-19/100");
+        assertThat(res.getContentLengthLong()).isEqualTo(10);
+        assertThat(body(res)).isEqualTo(BODY.substring(10, 20));
+    }
+
+    @Test
+    void 끝이_없거나_접미_구간이면_파일_끝까지() throws IOException {
+        MockHttpServletResponse open = get("bytes=95-", null);
+        MockHttpServletResponse suffix = get("bytes=-3", null);
+        MockHttpServletResponse past = get("bytes=90-500", null);
+
+        assertThat(open.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 95-99/100");
+        assertThat(body(open)).isEqualTo(BODY.substring(95));
+        assertThat(suffix.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 97-99/100");
+        assertThat(body(suffix)).isEqualTo(BODY.substring(97));
+        assertThat(past.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 90-99/100");
+    }
+
+    @Test
+    void 범위를_벗어나거나_형식이_틀리면_416() throws IOException {
+        for (String range : new String[]{"bytes=100-", "bytes=-0", "bytes=20-10", "bytes=abc", "items=0-1"}) {
+            MockHttpServletResponse res = get(range, null);
+
+            assertThat(res.getStatus()).as(range).isEqualTo(416);
+            assertThat(res.getHeader(HttpHeaders.CONTENT_RANGE)).as(range).isEqualTo("bytes */100");
+            assertThat(res.getContentAsByteArray()).as(range).isEmpty();
+        }
+    }
+
+    @Test
+    void 겹치는_구간으로_파일보다_많이_요청하면_416() throws IOException {
+        assertThat(get("bytes=0-99,0-99", null).getStatus()).isEqualTo(416);
+    }
+
+    @Test
+    void 여러_구간은_multipart_byteranges() throws IOException {
+        MockHttpServletResponse res = get("bytes=0-1,50-52", null);
+
+        assertThat(res.getStatus()).isEqualTo(206);
+        assertThat(res.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String boundary = res.getContentType().substring(res.getContentType().indexOf('=') + 1);
+        String body = body(res);
+        assertThat(res.getContentLengthLong()).isEqualTo(res.getContentAsByteArray().length);
+        assertThat(body).isEqualTo(
+                "\r\n--" + boundary + "\r\n"
+                        + "Content-Type: video/mp4\r\n"
+                        + "Content-Range: bytes 0-1/100\r\n\r\n"
+                        + "01"
+                        + "\r\n--" + boundary + "\r\n"
+                        + "Content-Type: video/mp4\r\n"
+                        + "Content-Range: bytes 50-52/100\r\n\r\n"
+                        + "012"
+                        + "\r\n--" + boundary + "--\r\n");
+    }
+
+    @Test
+    void If_Range_가_현재_ETag_나_날짜와_같을_때만_구간_전송() throws IOException {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(Instant.ofEpochMilli(LAST_MODIFIED).atOffset(ZoneOffset.UTC));
+
+        assertThat(get("bytes=0-9", ETAG).getStatus()).isEqualTo(206);
+        assertThat(get("bytes=0-9", date).getStatus()).isEqualTo(206);
+        assertThat(get("bytes=0-9", "\"v0\"").getStatus()).isEqualTo(200);
+        assertThat(get("bytes=0-9", "W/" + ETAG).getStatus()).isEqualTo(200); // 약한 ETag 는 불일치
+        assertThat(get("bytes=0-9", "not a date").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void If_None_Match_가_맞으면_304() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URL);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+
+        server.serve(URL, request, res);
+
+        assertThat(res.getStatus()).isEqualTo(304);
+        assertThat(res.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void HEAD_는_헤더만() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", URL);
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9,20-29");
+        MockHttpServletResponse res = new MockHttpServletResponse();
+
+        server.serve(URL, request, res);
+
+        assertThat(res.getStatus()).isEqualTo(206);
+        assertThat(res.getContentLengthLong()).isPositive();
+        assertThat(res.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void sendfile_을_지원하면_본문_대신_Tomcat_에_구간을_넘김() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URL);
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+
+        server.serve(URL, request, res);
+
+        assertThat(res.getStatus()).isEqualTo(206);
+        assertThat(res.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .isEqualTo(dir.resolve("clip.mp4").toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(10L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(20L);
+    }
+
+    @Test
+    void 로컬_경로가_없으면_구간만_읽어서_전달() throws IOException {
+        when(storage.localPath(URL)).thenReturn(null);
+        when(storage.openRange(URL, 30, 5)).thenReturn(
+                new ByteArrayInputStream(BODY.substring(30).getBytes(StandardCharsets.US_ASCII)));
+
+        MockHttpServletResponse res = get("bytes=30-34", null);
+
+        assertThat(res.getStatus()).isEqualTo(206);
+        assertThat(body(res)).isEqualTo(BODY.substring(30, 35));
+    }
+
+    @Test
+    void 파일이_없으면_404() throws IOException {
+        when(storage.stat(URL)).thenReturn(null);
+
+        assertThat(get("bytes=0-9", null).getStatus()).isEqualTo(404);
+    }
+}
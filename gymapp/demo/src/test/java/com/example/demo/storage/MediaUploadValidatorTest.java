@@ -0,0 +1,108 @@
+package com.example.demo.storage;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MediaUploadValidatorTest {
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J', 'F', 'I', 'F', 0, 1, 2, 3};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] MP4 = {0, 0, 0, 0x18, 'f', 't', 'y', 'p', 'i', 's', 'o', 'm', 0, 0};
+
+    private final MediaUploadValidator validator = new MediaUploadValidator(DataSize.ofBytes(64));
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        return in.readAllBytes();
+    }
+
+    @Test
+    void 헤더의_타입은_파라미터를_빼고_소문자로() {
+        assertThat(validator.checkHeaders("Image/JPEG; charset=binary", 10)).isEqualTo("image/jpeg");
+        assertThat(validator.extensionOf("image/jpeg")).isEqualTo("jpg");
+        assertThat(validator.extensionOf("video/mp4")).isEqualTo("mp4");
+    }
+
+    @Test
+    void 허용되지_않은_헤더는_거부() {
+        assertThatThrownBy(() -> validator.checkHeaders(null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> validator.checkHeaders("image/gif", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> validator.checkHeaders("image/png", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> validator.checkHeaders("image/png", 65))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 선언한_형식과_맞는_본문은_그대로_통과() throws IOException {
+        MediaUploadValidator.CheckedInputStream jpeg = validator.wrap(new ByteArrayInputStream(JPEG), "image/jpeg");
+        MediaUploadValidator.CheckedInputStream mp4 = validator.wrap(new ByteArrayInputStream(MP4), "video/mp4");
+
+        assertThat(readAll(jpeg)).isEqualTo(JPEG);
+        assertThat(jpeg.count()).isEqualTo(JPEG.length);
+        assertThat(jpeg.violation()).isNull();
+        assertThat(readAll(mp4)).isEqualTo(MP4);
+        assertThat(mp4.violation()).isNull();
+    }
+
+    @Test
+    void 앞부분보다_짧은_본문은_끝에서_확인() throws IOException {
+        MediaUploadValidator.CheckedInputStream png = validator.wrap(new ByteArrayInputStream(PNG), "image/png");
+
+        assertThat(readAll(png)).isEqualTo(PNG);
+        assertThat(png.violation()).isNull();
+    }
+
+    @Test
+    void 한_바이트씩_읽어도_같은_검증() throws IOException {
+        MediaUploadValidator.CheckedInputStream in = validator.wrap(new ByteArrayInputStream(JPEG), "image/jpeg");
+
+        int n = 0;
+        while (in.read() >= 0) n++;
+
+        assertThat(n).isEqualTo(JPEG.length);
+        assertThat(in.violation()).isNull();
+    }
+
+    @Test
+    void 형식이_다르면_IOException_으로_끊고_사유를_남김() {
+        MediaUploadValidator.CheckedInputStream in = validator.wrap(new ByteArrayInputStream(PNG), "image/jpeg");
+
+        assertThatThrownBy(() -> readAll(in)).isInstanceOf(IOException.class);
+        assertThat(in.violation()).contains("image/jpeg");
+    }
+
+    @Test
+    void 빈_본문은_형식_불일치() {
+        MediaUploadValidator.CheckedInputStream in = validator.wrap(new ByteArrayInputStream(new byte[0]), "image/png");
+
+        assertThatThrownBy(() -> readAll(in)).isInstanceOf(IOException.class);
+        assertThat(in.violation()).isNotNull();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_읽는_중에_끊음() {
+        byte[] big = Arrays.copyOf(JPEG, 65); // 헤더에는 작게 선언하고 본문을 더 보내는 경우
+        MediaUploadValidator.CheckedInputStream in = validator.wrap(new ByteArrayInputStream(big), "image/jpeg");
+
+        assertThatThrownBy(() -> readAll(in)).isInstanceOf(IOException.class);
+        assertThat(in.violation()).contains("크기");
+    }
+
+    @Test
+    void skip_도_읽은_것으로_검증() {
+        MediaUploadValidator.CheckedInputStream in = validator.wrap(new ByteArrayInputStream(MP4), "image/jpeg");
+
+        assertThatThrownBy(() -> in.skip(100)).isInstanceOf(IOException.class);
+        assertThat(in.violation()).isNotNull();
+    }
+}
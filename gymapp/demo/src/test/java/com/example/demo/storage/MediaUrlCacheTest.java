@@ -0,0 +1,72 @@
+package com.example.demo.storage;
+
+import com.example.demo.storage.dto.MediaRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MediaUrlCacheTest {
+
+    private final MediaUrlCache cache = new MediaUrlCache(100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Optional<MediaRef> load(MediaRef ref) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(ref);
+    }
+
+    @Test
+    void 소유_회원과_URL_을_함께_캐시() {
+        MediaRef ref = new MediaRef(7L, "/media/a.jpg");
+
+        assertThat(cache.find(MediaUrlCache.WORKOUT, 1L, id -> load(ref))).contains(ref);
+        assertThat(cache.find(MediaUrlCache.WORKOUT, 1L, id -> load(null))).contains(ref);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void 미디어가_없는_기록도_캐시하고_없는_기록은_캐시하지_않음() {
+        MediaRef noMedia = new MediaRef(7L, null);
+
+        cache.find(MediaUrlCache.DIET, 1L, id -> load(noMedia));
+        cache.find(MediaUrlCache.DIET, 1L, id -> load(noMedia));
+        cache.find(MediaUrlCache.DIET, 2L, id -> load(null));
+        cache.find(MediaUrlCache.DIET, 2L, id -> load(null));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void 종류가_다르면_같은_id_도_따로_캐시() {
+        cache.find(MediaUrlCache.WORKOUT, 1L, id -> load(new MediaRef(7L, "/media/w.jpg")));
+
+        assertThat(cache.find(MediaUrlCache.DIET, 1L, id -> load(new MediaRef(8L, "/media/d.jpg"))))
+                .map(MediaRef::url).contains("/media/d.jpg");
+    }
+
+    @Test
+    void 제거하면_다시_읽음() {
+        cache.find(MediaUrlCache.WORKOUT, 1L, id -> load(new MediaRef(7L, "/media/old.jpg")));
+
+        cache.evict(MediaUrlCache.WORKOUT, 1L); // 트랜잭션 밖이면 바로 제거
+
+        assertThat(cache.find(MediaUrlCache.WORKOUT, 1L, id -> load(new MediaRef(7L, "/media/new.jpg"))))
+                .map(MediaRef::url).contains("/media/new.jpg");
+    }
+
+    @Test
+    void 조회_도중_제거되면_읽은_값을_캐시하지_않음() {
+        // 수정 전 값을 읽는 사이 수정이 커밋돼 evict 가 먼저 끝난 경우
+        Optional<MediaRef> stale = cache.find(MediaUrlCache.WORKOUT, 1L, id -> {
+            cache.evict(MediaUrlCache.WORKOUT, 1L);
+            return load(new MediaRef(7L, "/media/old.jpg"));
+        });
+
+        assertThat(stale).map(MediaRef::url).contains("/media/old.jpg");
+        assertThat(cache.find(MediaUrlCache.WORKOUT, 1L, id -> load(new MediaRef(7L, "/media/new.jpg"))))
+                .map(MediaRef::url).contains("/media/new.jpg");
+    }
+}